@@ -0,0 +1,82 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import model.BatchEngine;
+import model.GameLogic;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmarks comparing the batch engines with one round played
+ * through GameLogic, all rolling the same reproducible dice sequence.
+ * Every invocation plays the next range of rounds, so no range is
+ * replayed from a warm branch history.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class BatchBenchmark {
+    private static final long SEED = 42L;
+    private static final int BATCH_ROUNDS = 4096;
+
+    @Param({"scalar", "vector"})
+    private String myEngineName;
+
+    private BatchEngine myEngine;
+    private GameLogic myGameLogic;
+    private long myNextRound;
+
+    /**
+     * Creates the engine under test and a game rolling the same sequence.
+     */
+    @Setup
+    public void setUp() {
+        myEngine = "vector".equals(myEngineName) ? BatchEngine.vector() : BatchEngine.scalar();
+        myGameLogic = new GameLogic(SEED, 0);
+        myNextRound = 0;
+    }
+
+    /**
+     * Measures one round played by the batch engine.
+     *
+     * @return The player wins of the batch.
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH_ROUNDS)
+    public long batchRound() {
+        final long from = myNextRound;
+        myNextRound += BATCH_ROUNDS;
+        return myEngine.play(SEED, from, myNextRound).getPlayerWins();
+    }
+
+    /**
+     * Measures one round rolled through firstRoll and additionalRolls,
+     * the per-roll path the batch engines replace.
+     *
+     * @return The player wins so far.
+     */
+    @Benchmark
+    public int gameLogicRound() {
+        do {
+            myGameLogic.getGenericRoll();
+        } while (!myGameLogic.getPointGained());
+        myGameLogic.startNewGame();
+        return myGameLogic.getPlayerWins();
+    }
+}
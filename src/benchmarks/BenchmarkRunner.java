@@ -0,0 +1,42 @@
+package benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs every JMH benchmark in this package with the GC profiler attached,
+ * so each result carries its allocation rate next to its throughput and
+ * average time. The results are written as JSON so a run can be kept as
+ * the baseline that later changes are compared against.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public class BenchmarkRunner {
+    private static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+
+    /**
+     * Runs the benchmarks.
+     *
+     * @param args An optional path for the JSON results, followed by an
+     *             optional regular expression selecting benchmarks.
+     * @throws RunnerException If JMH fails to run a benchmark.
+     */
+    public static void main(String... args) throws RunnerException {
+        final String resultFile = args.length > 0 ? args[0] : DEFAULT_RESULT_FILE;
+        final String include = args.length > 1 ? args[1] : "benchmarks\\..*Benchmark\\..*";
+
+        Options options = new OptionsBuilder()
+                .include(include)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(resultFile)
+                .build();
+
+        new Runner(options).run();
+    }
+}
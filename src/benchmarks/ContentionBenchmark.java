@@ -0,0 +1,89 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import model.GameLogic;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmarks that roll from several threads at once, either on one
+ * shared GameLogic instance or on one instance per thread. The gap between
+ * the two shows the cost of the shared random number generator and of the
+ * fields every roll writes.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(2)
+public class ContentionBenchmark {
+
+    /**
+     * One GameLogic instance shared by every benchmark thread.
+     */
+    @State(Scope.Benchmark)
+    public static class SharedGame {
+        GameLogic myGameLogic;
+
+        /**
+         * Sets up the shared instance.
+         */
+        @Setup
+        public void setUp() {
+            myGameLogic = new GameLogic();
+        }
+    }
+
+    /**
+     * One GameLogic instance per benchmark thread.
+     */
+    @State(Scope.Thread)
+    public static class OwnGame {
+        GameLogic myGameLogic;
+
+        /**
+         * Sets up the per-thread instance.
+         */
+        @Setup
+        public void setUp() {
+            myGameLogic = new GameLogic();
+        }
+    }
+
+    /**
+     * Measures rolling on the shared instance.
+     *
+     * @param theGame The shared game.
+     * @return The total of the roll.
+     */
+    @Benchmark
+    public int sharedRollDice(SharedGame theGame) {
+        theGame.myGameLogic.rollDice();
+        return theGame.myGameLogic.getTotal();
+    }
+
+    /**
+     * Measures rolling on a per-thread instance.
+     *
+     * @param theGame The game owned by this thread.
+     * @return The total of the roll.
+     */
+    @Benchmark
+    public int ownRollDice(OwnGame theGame) {
+        theGame.myGameLogic.rollDice();
+        return theGame.myGameLogic.getTotal();
+    }
+}
@@ -0,0 +1,120 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.Random;
+import model.BufferedDiceSource;
+import model.DiceSource;
+import model.GameLogic;
+import model.LookupDiceSource;
+import model.RandomDiceSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmarks for the single-roll methods of the GameLogic class.
+ * Every benchmark returns a value read back from the game so the
+ * JIT cannot remove the roll as dead code. Each benchmark runs once
+ * per dice source so the sources can be compared directly.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class RollBenchmark {
+    @Param({"random", "lookup", "buffered"})
+    public String myDiceSource;
+
+    private GameLogic myGameLogic;
+
+    /**
+     * Sets up a fresh GameLogic instance for each trial and rolls come-outs
+     * until a point is established, so additionalRolls measures rolls that
+     * can hit the point. Nothing but startNewGame clears the point again.
+     */
+    @Setup
+    public void setUp() {
+        myGameLogic = new GameLogic(createDiceSource(myDiceSource, new Random()));
+        do {
+            myGameLogic.startNewGame();
+            myGameLogic.firstRoll();
+        } while (myGameLogic.getPoint() == 0);
+    }
+
+    /**
+     * Creates the dice source named by a benchmark parameter.
+     *
+     * @param theName The name of the dice source.
+     * @param theRoller The random number generator for the source.
+     * @return The dice source.
+     */
+    static DiceSource createDiceSource(String theName, Random theRoller) {
+        return switch (theName) {
+            case "lookup" -> new LookupDiceSource(theRoller);
+            case "buffered" -> new BufferedDiceSource(theRoller);
+            default -> new RandomDiceSource(theRoller);
+        };
+    }
+
+    /**
+     * Measures a bare roll of both dice.
+     *
+     * @return The total of the roll.
+     */
+    @Benchmark
+    public int rollDice() {
+        myGameLogic.rollDice();
+        return myGameLogic.getTotal();
+    }
+
+    /**
+     * Measures a come-out roll, including the score and bet updates.
+     *
+     * @return The point after the roll.
+     */
+    @Benchmark
+    public int firstRoll() {
+        myGameLogic.firstRoll();
+        return myGameLogic.getPoint();
+    }
+
+    /**
+     * Measures a roll made after a point has been set, including the
+     * point-hit and seven-out branches.
+     *
+     * @return The total of the roll.
+     */
+    @Benchmark
+    public int additionalRolls() {
+        myGameLogic.additionalRolls();
+        return myGameLogic.getTotal();
+    }
+
+    /**
+     * Measures the roll the Roll Dice button makes, starting a new game
+     * whenever the previous roll decided the round.
+     *
+     * @return The total of the roll.
+     */
+    @Benchmark
+    public int genericRoll() {
+        if (myGameLogic.getPointGained()) {
+            myGameLogic.startNewGame();
+        }
+        myGameLogic.getGenericRoll();
+        return myGameLogic.getTotal();
+    }
+}
@@ -0,0 +1,79 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import model.GameLogic;
+import model.RoundSimulator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmarks for complete pass-line rounds, including placing the bet
+ * with updateBet and settling it through winBet or loseBet.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class RoundBenchmark {
+    private static final int BANK = 1_000_000;
+    private static final int BET = 10;
+    private static final int SIMULATOR_ROUNDS = 1000;
+
+    private GameLogic myGameLogic;
+    private RoundSimulator mySimulator;
+
+    /**
+     * Sets up a funded game and a simulator for each trial.
+     */
+    @Setup
+    public void setUp() {
+        myGameLogic = new GameLogic();
+        myGameLogic.setBankBalance(BANK);
+        mySimulator = new RoundSimulator(42L, BANK, BET);
+    }
+
+    /**
+     * Measures one full round through the same calls the GUI makes:
+     * a bet, Roll Dice until the round is decided, then Play Again.
+     *
+     * @return The bank balance after the round.
+     */
+    @Benchmark
+    public int gameLogicRound() {
+        if (myGameLogic.getBankBalance() < BET) {
+            myGameLogic.setBankBalance(BANK);
+        }
+        myGameLogic.updateBet(BET);
+        do {
+            myGameLogic.getGenericRoll();
+        } while (!myGameLogic.getPointGained());
+        myGameLogic.startNewGame();
+        return myGameLogic.getBankBalance();
+    }
+
+    /**
+     * Measures one round played by the headless simulator, for comparison
+     * with the GameLogic round.
+     *
+     * @return The player wins of the batch.
+     */
+    @Benchmark
+    @OperationsPerInvocation(SIMULATOR_ROUNDS)
+    public long simulatorRound() {
+        return mySimulator.run(SIMULATOR_ROUNDS).getPlayerWins();
+    }
+}
@@ -0,0 +1,71 @@
+package benchmarks;
+
+import model.ParallelSimulator;
+import model.SimulationResult;
+
+/**
+ * Measures how the parallel simulator scales with the number of worker threads.
+ * It runs the same round count at 1, 2, 4, ... threads up to the number of
+ * available cores and prints the throughput and speedup of each run.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public class ScalingBenchmark {
+    private static final long DEFAULT_ROUNDS = 200_000_000L;
+    private static final int RUNS = 3;
+
+    /**
+     * Runs the scaling benchmark.
+     *
+     * @param args An optional total round count per run.
+     */
+    public static void main(String... args) {
+        final long rounds = args.length > 0 ? Long.parseLong(args[0]) : DEFAULT_ROUNDS;
+        final int cores = Runtime.getRuntime().availableProcessors();
+
+        // Warm up the JIT before any timed run.
+        new ParallelSimulator(cores, 0, 0).run(1L, rounds / 10);
+
+        double baseline = 0;
+        for (int threads = 1; threads <= cores; threads = nextThreadCount(threads, cores)) {
+            final double best = bestRoundsPerSecond(threads, rounds);
+            if (threads == 1) {
+                baseline = best;
+            }
+            System.out.printf("threads=%-3d rounds/sec=%,15.0f speedup=%5.2fx%n",
+                    threads, best, best / baseline);
+        }
+    }
+
+    /**
+     * Runs the simulation several times and keeps the best throughput.
+     *
+     * @param theThreads The number of worker threads.
+     * @param theRounds The number of rounds per run.
+     * @return The best rounds per second seen.
+     */
+    private static double bestRoundsPerSecond(int theThreads, long theRounds) {
+        final ParallelSimulator simulator = new ParallelSimulator(theThreads, 0, 0);
+        double best = 0;
+        for (int i = 0; i < RUNS; i++) {
+            SimulationResult result = simulator.run(i, theRounds);
+            best = Math.max(best, result.getRoundsPerSecond());
+        }
+        return best;
+    }
+
+    /**
+     * Doubles the thread count, making sure the core count itself is measured.
+     *
+     * @param theThreads The current thread count.
+     * @param theCores The number of available cores.
+     * @return The next thread count to measure.
+     */
+    private static int nextThreadCount(int theThreads, int theCores) {
+        if (theThreads < theCores && theThreads * 2 > theCores) {
+            return theCores;
+        }
+        return theThreads * 2;
+    }
+}
@@ -1,18 +1,172 @@
 package controller;
 
+import benchmarks.ScalingBenchmark;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+import model.FairnessAuditor;
+import model.GameLogic;
+import model.JournalReader;
+import model.BettingStrategy;
+import model.Leaderboard;
+import model.ParallelSimulator;
+import model.Progression;
+import model.RandomDiceSource;
+import model.SessionConfig;
+import model.TableSnapshot;
+import model.TournamentScheduler;
+import server.TableServer;
 import view.StartUpFrame;
+import view.StartupTimer;
 
 /**
  * The Main class serves as the entry point for the Craps game application.
- * It launches the application by invoking the StartUpFrame.
+ * With no arguments it launches the application by invoking the StartUpFrame.
  * The application flow begins with the StartUpFrame, allowing users to initiate the game.
+
+ * A mode can be given instead to run without a display: simulate, serve,
+ * replay, audit, tournament or bench. These modes only touch model, server and benchmark
+ * code, so no AWT or Swing class is ever loaded.
  *
  * @author cynlopez
  * @version Fall 2023
  */
 
 public class Main {
-    public static void main(String... args) {
-        javax.swing.SwingUtilities.invokeLater(StartUpFrame::new);
+    private static final String USAGE = """
+            usage: Main [mode [arguments]]
+              (no mode)                                        open the game window
+              simulate [rounds] [threads] [seed] [bank] [bet]  play rounds without a window
+              serve [port] [address]                           run the table server
+              replay journal [snapshot]                        rebuild tables from a journal
+              audit [rolls]                                    test that the game's dice are fair
+              tournament [players] [rounds] [threads] [seed]   play bots against each other
+              bench [rounds]                                   measure simulator scaling
+            """;
+
+    public static void main(String... args) throws IOException {
+        if (args.length == 0) {
+            launchWindow();
+            return;
+        }
+        System.setProperty("java.awt.headless", "true");
+        final String[] arguments = Arrays.copyOfRange(args, 1, args.length);
+        try {
+            switch (args[0]) {
+                case "simulate" -> simulate(arguments);
+                case "serve" -> TableServer.main(arguments);
+                case "replay" -> replay(arguments);
+                case "audit" -> audit(arguments);
+                case "tournament" -> tournament(arguments);
+                case "bench" -> ScalingBenchmark.main(arguments);
+                default -> usage();
+            }
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            usage();
+        }
+    }
+
+    /**
+     * Opens the game window. This is the only method that uses Swing.
+     */
+    private static void launchWindow() {
+        final StartupTimer timer = new StartupTimer();
+        javax.swing.SwingUtilities.invokeLater(() -> new StartUpFrame(timer));
+    }
+
+    /**
+     * Plays rounds across every core and prints the tallies.
+     *
+     * @param theArguments The round count, thread count, seed, bank and bet, each optional.
+     */
+    private static void simulate(String... theArguments) {
+        final long rounds = theArguments.length > 0 ? Long.parseLong(theArguments[0]) : 10_000_000L;
+        final int threads = theArguments.length > 1 ? Integer.parseInt(theArguments[1])
+                : Runtime.getRuntime().availableProcessors();
+        final long seed = theArguments.length > 2 ? Long.parseLong(theArguments[2]) : System.nanoTime();
+        final long bank = theArguments.length > 3 ? Long.parseLong(theArguments[3]) : 0;
+        final int bet = theArguments.length > 4 ? Integer.parseInt(theArguments[4]) : 0;
+
+        System.out.println(new ParallelSimulator(threads, bank, bet).run(seed, rounds));
+    }
+
+    /**
+     * Rebuilds tables from a journal, and a snapshot if one is given, and prints their totals.
+     *
+     * @param theArguments The journal path and an optional snapshot path.
+     * @throws IOException If a file cannot be read.
+     */
+    private static void replay(String... theArguments) throws IOException {
+        final Path journal = Path.of(theArguments[0]);
+        final Map<Integer, GameLogic> tables;
+        if (theArguments.length > 1) {
+            tables = TableSnapshot.recover(Path.of(theArguments[1]), journal);
+        } else {
+            try (JournalReader reader = new JournalReader(journal)) {
+                tables = reader.replay();
+            }
+        }
+
+        long playerWins = 0;
+        long houseWins = 0;
+        long bank = 0;
+        long bets = 0;
+        for (GameLogic table : tables.values()) {
+            playerWins += table.getPlayerWins();
+            houseWins += table.getHouseWins();
+            bank += table.getBankBalance();
+            bets += table.getBet();
+        }
+        System.out.printf("tables=%d player=%d house=%d bank=%d bets=%d%n",
+                tables.size(), playerWins, houseWins, bank, bets);
+    }
+
+    /**
+     * Rolls the dice the game rolls by default through a FairnessAuditor and prints its report.
+     * An alert is printed to standard error as soon as the rolls look unfair.
+     *
+     * @param theArguments The number of rolls, optional.
+     */
+    private static void audit(String... theArguments) {
+        final long rolls = theArguments.length > 0 ? Long.parseLong(theArguments[0]) : 100_000_000L;
+        final FairnessAuditor auditor = new FairnessAuditor(new RandomDiceSource(new Random()),
+                report -> System.err.println("Unfair rolls: " + report));
+        for (long i = 0; i < rolls; i++) {
+            auditor.nextRoll();
+        }
+        System.out.println(auditor.check());
+    }
+
+    /**
+     * Plays a tournament of bots cycling through every progression, printing
+     * the standings every second and once more at the end.
+     *
+     * @param theArguments The player count, rounds per player, thread count and seed, each optional.
+     */
+    private static void tournament(String... theArguments) {
+        final int players = theArguments.length > 0 ? Integer.parseInt(theArguments[0]) : 10_000;
+        final int rounds = theArguments.length > 1 ? Integer.parseInt(theArguments[1]) : 1_000;
+        final int threads = theArguments.length > 2 ? Integer.parseInt(theArguments[2])
+                : Runtime.getRuntime().availableProcessors();
+        final long seed = theArguments.length > 3 ? Long.parseLong(theArguments[3]) : System.nanoTime();
+
+        final BettingStrategy[] strategies = new BettingStrategy[players];
+        final Progression[] progressions = Progression.values();
+        for (int player = 0; player < players; player++) {
+            strategies[player] = progressions[player % progressions.length];
+        }
+        final Leaderboard standings = new TournamentScheduler(threads, 1_000, System.out::println)
+                .run(strategies, new SessionConfig(1_000, 10, 0, 0, rounds), seed, 0);
+        System.out.println(standings);
+    }
+
+    /**
+     * Prints how to use the modes and exits with an error status.
+     */
+    private static void usage() {
+        System.err.print(USAGE);
+        System.exit(2);
     }
 }
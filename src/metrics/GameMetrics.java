@@ -0,0 +1,259 @@
+package metrics;
+
+import java.awt.event.ActionListener;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * This class counts game activity and exposes it over JMX.
+ * Every counter is a LongAdder, so any number of tables can update the
+ * same metrics without locks. MeteredGameLogic feeds the roll, round and
+ * bet counters in batches, and timed wraps Swing listeners to measure how long they
+ * hold the event dispatch thread.
+
+ * Metrics are off unless the craps.metrics system property is true, so
+ * nothing is registered with the platform MBean server by default.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public class GameMetrics implements GameMetricsMBean {
+    /**
+     * The name the platform instance is registered under.
+     */
+    public static final String OBJECT_NAME = "craps:type=GameMetrics";
+
+    private final LongAdder myRolls;
+    private final LongAdder myRounds;
+    private final LongAdder myPlayerWins;
+    private final LongAdder myHouseWins;
+    private final LongAdder mySettlements;
+    private final LongAdder myBetsPlaced;
+    private final LongAdder myAmountWagered;
+    private final LatencyHistogram myRoundNanos;
+    private final LatencyHistogram myHandlerNanos;
+    private volatile long myStartNanos;
+
+    /**
+     * Constructs a new GameMetrics with every counter at zero.
+     * It is not registered with JMX; use getPlatformInstance for that.
+     */
+    public GameMetrics() {
+        myRolls = new LongAdder();
+        myRounds = new LongAdder();
+        myPlayerWins = new LongAdder();
+        myHouseWins = new LongAdder();
+        mySettlements = new LongAdder();
+        myBetsPlaced = new LongAdder();
+        myAmountWagered = new LongAdder();
+        myRoundNanos = new LatencyHistogram();
+        myHandlerNanos = new LatencyHistogram();
+        myStartNanos = System.nanoTime();
+    }
+
+    /**
+     * Checks if metrics are turned on.
+     *
+     * @return true if the craps.metrics system property is true, false otherwise.
+     */
+    public static boolean isEnabled() {
+        return Boolean.getBoolean("craps.metrics");
+    }
+
+    /**
+     * Gets the instance registered with the platform MBean server,
+     * registering it the first time.
+     *
+     * @return The shared instance.
+     */
+    public static GameMetrics getPlatformInstance() {
+        return Platform.INSTANCE;
+    }
+
+    /**
+     * Adds a batch of counts from one table.
+     *
+     * @param theRolls The number of rolls.
+     * @param thePlayerWins The number of rounds won by the player.
+     * @param theHouseWins The number of rounds won by the house.
+     * @param theSettlements The number of decided rounds that had a bet.
+     */
+    void recordRounds(int theRolls, int thePlayerWins, int theHouseWins, int theSettlements) {
+        myRolls.add(theRolls);
+        myRounds.add(thePlayerWins + theHouseWins);
+        myPlayerWins.add(thePlayerWins);
+        myHouseWins.add(theHouseWins);
+        mySettlements.add(theSettlements);
+    }
+
+    /**
+     * Records how long a round took.
+     *
+     * @param theNanos The time from the come-out roll to the deciding roll.
+     */
+    void recordRoundNanos(long theNanos) {
+        myRoundNanos.record(theNanos);
+    }
+
+    /**
+     * Counts one accepted bet.
+     *
+     * @param theAmount The amount of the bet.
+     */
+    void recordBet(int theAmount) {
+        myBetsPlaced.increment();
+        myAmountWagered.add(theAmount);
+    }
+
+    /**
+     * Wraps a listener so every invocation is timed into the handler histogram.
+     *
+     * @param theListener The listener to time.
+     * @return A listener that calls the given one and records how long it took.
+     */
+    public ActionListener timed(ActionListener theListener) {
+        return e -> {
+            final long start = System.nanoTime();
+            try {
+                theListener.actionPerformed(e);
+            } finally {
+                myHandlerNanos.record(System.nanoTime() - start);
+            }
+        };
+    }
+
+    @Override
+    public long getRolls() {
+        return myRolls.sum();
+    }
+
+    @Override
+    public long getRounds() {
+        return myRounds.sum();
+    }
+
+    @Override
+    public long getPlayerWins() {
+        return myPlayerWins.sum();
+    }
+
+    @Override
+    public long getHouseWins() {
+        return myHouseWins.sum();
+    }
+
+    @Override
+    public long getSettlements() {
+        return mySettlements.sum();
+    }
+
+    @Override
+    public long getBetsPlaced() {
+        return myBetsPlaced.sum();
+    }
+
+    @Override
+    public long getAmountWagered() {
+        return myAmountWagered.sum();
+    }
+
+    @Override
+    public double getRollsPerSecond() {
+        return perSecond(myRolls.sum());
+    }
+
+    @Override
+    public double getSettlementsPerSecond() {
+        return perSecond(mySettlements.sum());
+    }
+
+    @Override
+    public long getRoundsTimed() {
+        return myRoundNanos.getCount();
+    }
+
+    @Override
+    public double getRoundNanosMean() {
+        return myRoundNanos.getMean();
+    }
+
+    @Override
+    public long getRoundNanosP50() {
+        return myRoundNanos.getQuantile(0.5);
+    }
+
+    @Override
+    public long getRoundNanosP99() {
+        return myRoundNanos.getQuantile(0.99);
+    }
+
+    @Override
+    public long getHandlerCalls() {
+        return myHandlerNanos.getCount();
+    }
+
+    @Override
+    public double getHandlerNanosMean() {
+        return myHandlerNanos.getMean();
+    }
+
+    @Override
+    public long getHandlerNanosP99() {
+        return myHandlerNanos.getQuantile(0.99);
+    }
+
+    @Override
+    public long getHandlerNanosMax() {
+        return myHandlerNanos.getMax();
+    }
+
+    @Override
+    public void reset() {
+        myRolls.reset();
+        myRounds.reset();
+        myPlayerWins.reset();
+        myHouseWins.reset();
+        mySettlements.reset();
+        myBetsPlaced.reset();
+        myAmountWagered.reset();
+        myRoundNanos.reset();
+        myHandlerNanos.reset();
+        myStartNanos = System.nanoTime();
+    }
+
+    /**
+     * Converts a count into an average rate since the metrics were created or reset.
+     *
+     * @param theCount The count.
+     * @return The count per second.
+     */
+    private double perSecond(long theCount) {
+        final long elapsed = System.nanoTime() - myStartNanos;
+        return elapsed <= 0 ? 0 : theCount * 1e9 / elapsed;
+    }
+
+    /**
+     * Holds the platform instance, so it is created and registered only when first used.
+     */
+    private static final class Platform {
+        static final GameMetrics INSTANCE = register();
+
+        /**
+         * Creates the platform instance and registers it with the platform MBean server.
+         *
+         * @return The registered instance.
+         * @throws IllegalStateException If the instance cannot be registered.
+         */
+        private static GameMetrics register() {
+            final GameMetrics metrics = new GameMetrics();
+            try {
+                ManagementFactory.getPlatformMBeanServer().registerMBean(metrics, new ObjectName(OBJECT_NAME));
+            } catch (JMException e) {
+                throw new IllegalStateException(e);
+            }
+            return metrics;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package metrics;
+
+/**
+ * The management interface of GameMetrics, as seen in JConsole or any other JMX client.
+ * Rates are averaged over the time since the metrics were created or last reset.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public interface GameMetricsMBean {
+
+    /**
+     * Gets the number of dice rolls.
+     *
+     * @return The number of rolls.
+     */
+    long getRolls();
+
+    /**
+     * Gets the number of decided rounds.
+     *
+     * @return The number of rounds.
+     */
+    long getRounds();
+
+    /**
+     * Gets the number of rounds won by the player.
+     *
+     * @return The number of player wins.
+     */
+    long getPlayerWins();
+
+    /**
+     * Gets the number of rounds won by the house.
+     *
+     * @return The number of house wins.
+     */
+    long getHouseWins();
+
+    /**
+     * Gets the number of decided rounds that had a bet to settle.
+     *
+     * @return The number of settlements.
+     */
+    long getSettlements();
+
+    /**
+     * Gets the number of accepted bets.
+     *
+     * @return The number of bets.
+     */
+    long getBetsPlaced();
+
+    /**
+     * Gets the total of every accepted bet.
+     *
+     * @return The amount wagered.
+     */
+    long getAmountWagered();
+
+    /**
+     * Gets the average number of rolls per second.
+     *
+     * @return The roll rate.
+     */
+    double getRollsPerSecond();
+
+    /**
+     * Gets the average number of settlements per second.
+     *
+     * @return The settlement rate.
+     */
+    double getSettlementsPerSecond();
+
+    /**
+     * Gets the number of rounds whose duration was sampled.
+     *
+     * @return The number of sampled rounds.
+     */
+    long getRoundsTimed();
+
+    /**
+     * Gets the mean time from a come-out roll to the roll that decides the round.
+     *
+     * @return The mean round duration in nanoseconds.
+     */
+    double getRoundNanosMean();
+
+    /**
+     * Gets the median round duration.
+     *
+     * @return The median round duration in nanoseconds.
+     */
+    long getRoundNanosP50();
+
+    /**
+     * Gets the 99th percentile round duration.
+     *
+     * @return The 99th percentile round duration in nanoseconds.
+     */
+    long getRoundNanosP99();
+
+    /**
+     * Gets the number of roll-button handler invocations timed on the event dispatch thread.
+     *
+     * @return The number of handler invocations.
+     */
+    long getHandlerCalls();
+
+    /**
+     * Gets the mean time a roll-button handler occupies the event dispatch thread.
+     *
+     * @return The mean handler time in nanoseconds.
+     */
+    double getHandlerNanosMean();
+
+    /**
+     * Gets the 99th percentile handler time.
+     *
+     * @return The 99th percentile handler time in nanoseconds.
+     */
+    long getHandlerNanosP99();
+
+    /**
+     * Gets the longest handler time.
+     *
+     * @return The longest handler time in nanoseconds.
+     */
+    long getHandlerNanosMax();
+
+    /**
+     * Clears every counter and histogram and restarts the rate clock.
+     */
+    void reset();
+}
@@ -0,0 +1,115 @@
+package metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import model.LogLinearBuckets;
+
+/**
+ * This class records durations in nanoseconds from any number of threads
+ * without locks. Every bucket is a LongAdder, so concurrent writers do not
+ * contend on one counter. Durations go into a log-linear histogram with
+ * 8 sub-buckets per power of two, so quantiles are within 12.5% of the
+ * true value for any duration a long can hold.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public class LatencyHistogram {
+    static final int SUB_BUCKET_BITS = 3;
+    static final int BUCKETS = LogLinearBuckets.count(SUB_BUCKET_BITS);
+
+    private final LongAdder[] myBuckets;
+    private final LongAdder myCount;
+    private final LongAdder myTotal;
+    private final LongAccumulator myMax;
+
+    /**
+     * Constructs a new, empty LatencyHistogram.
+     */
+    public LatencyHistogram() {
+        myBuckets = new LongAdder[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            myBuckets[i] = new LongAdder();
+        }
+        myCount = new LongAdder();
+        myTotal = new LongAdder();
+        myMax = new LongAccumulator(Math::max, 0);
+    }
+
+    /**
+     * Records one duration.
+     *
+     * @param theNanos The duration in nanoseconds; negative values count as zero.
+     */
+    public void record(long theNanos) {
+        final long nanos = Math.max(0, theNanos);
+        myBuckets[LogLinearBuckets.bucket(nanos, SUB_BUCKET_BITS)].increment();
+        myCount.increment();
+        myTotal.add(nanos);
+        myMax.accumulate(nanos);
+    }
+
+    /**
+     * Gets the number of durations recorded.
+     *
+     * @return The count.
+     */
+    public long getCount() {
+        return myCount.sum();
+    }
+
+    /**
+     * Gets the mean of the durations recorded.
+     *
+     * @return The mean in nanoseconds, or 0 if nothing was recorded.
+     */
+    public double getMean() {
+        final long count = myCount.sum();
+        return count == 0 ? 0 : (double) myTotal.sum() / count;
+    }
+
+    /**
+     * Gets the longest duration recorded.
+     *
+     * @return The maximum in nanoseconds.
+     */
+    public long getMax() {
+        return myMax.get();
+    }
+
+    /**
+     * Estimates a quantile of the durations recorded.
+     *
+     * @param theFraction The quantile as a fraction, such as 0.99.
+     * @return The lower edge of the bucket holding the quantile, or 0 if nothing was recorded.
+     */
+    public long getQuantile(double theFraction) {
+        final long[] counts = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = myBuckets[i].sum();
+            count += counts[i];
+        }
+        final long rank = Math.max(1, (long) Math.ceil(theFraction * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return LogLinearBuckets.floor(i, SUB_BUCKET_BITS);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Clears every count. Durations recorded while the reset runs may be lost.
+     */
+    public void reset() {
+        for (LongAdder bucket : myBuckets) {
+            bucket.reset();
+        }
+        myCount.reset();
+        myTotal.reset();
+        myMax.reset();
+    }
+}
@@ -0,0 +1,187 @@
+package metrics;
+
+import model.DiceSource;
+import model.GameLogic;
+
+/**
+ * A GameLogic that counts its rolls, rounds and bets in a GameMetrics.
+ * It can be used anywhere a GameLogic is, the same way JournaledGameLogic is.
+
+ * Counts are kept in plain fields and added to the shared LongAdders once
+ * every few decided rounds, so a roll costs a field increment
+ * instead of an atomic update. The first round after each flush is the one
+ * whose duration is timed, so most rolls never call System.nanoTime either. Call flush
+ * before dropping a table so its last counts are not lost.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public class MeteredGameLogic extends GameLogic {
+    /**
+     * The number of decided rounds between flushes when none is given.
+     */
+    public static final int DEFAULT_FLUSH_ROUNDS = 16;
+
+    private final GameMetrics myMetrics;
+    private final int myFlushRounds;
+    private int myRoundNumber;
+    private long myRoundStart;
+    private int myRolls;
+    private int myPlayerWins;
+    private int myHouseWins;
+    private int mySettlements;
+
+    /**
+     * Constructs a new MeteredGameLogic that flushes every DEFAULT_FLUSH_ROUNDS rounds.
+     *
+     * @param theDice The source of dice rolls.
+     * @param theMetrics The metrics to count into.
+     */
+    public MeteredGameLogic(DiceSource theDice, GameMetrics theMetrics) {
+        this(theDice, theMetrics, DEFAULT_FLUSH_ROUNDS);
+    }
+
+    /**
+     * Constructs a new MeteredGameLogic.
+     *
+     * @param theDice The source of dice rolls.
+     * @param theMetrics The metrics to count into.
+     * @param theFlushRounds The number of decided rounds between flushes.
+     * @throws IllegalArgumentException If the flush interval is not positive.
+     */
+    public MeteredGameLogic(DiceSource theDice, GameMetrics theMetrics, int theFlushRounds) {
+        super(theDice);
+        if (theFlushRounds <= 0) {
+            throw new IllegalArgumentException("ONLY POSITIVE NUMBERS");
+        }
+        myMetrics = theMetrics;
+        myFlushRounds = theFlushRounds;
+        myRoundNumber = 0;
+        myRoundStart = 0;
+        myRolls = 0;
+        myPlayerWins = 0;
+        myHouseWins = 0;
+        mySettlements = 0;
+    }
+
+    /**
+     * Rolls like getGenericRoll and counts the roll, and the round if it was decided.
+     */
+    @Override
+    public void getGenericRoll() {
+        startRound();
+        final int bet = getBet();
+        final int playerWins = getPlayerWins();
+        final int houseWins = getHouseWins();
+        super.getGenericRoll();
+        countRoll(bet, playerWins, houseWins);
+    }
+
+    /**
+     * Makes a come-out roll like firstRoll and counts the roll, and the round if it was decided.
+     */
+    @Override
+    public void firstRoll() {
+        startRound();
+        final int bet = getBet();
+        final int playerWins = getPlayerWins();
+        final int houseWins = getHouseWins();
+        super.firstRoll();
+        countRoll(bet, playerWins, houseWins);
+    }
+
+    /**
+     * Rolls like additionalRolls and counts the roll, and the round if it was decided.
+     */
+    @Override
+    public void additionalRolls() {
+        startRound();
+        final int bet = getBet();
+        final int playerWins = getPlayerWins();
+        final int houseWins = getHouseWins();
+        super.additionalRolls();
+        countRoll(bet, playerWins, houseWins);
+    }
+
+    /**
+     * Rolls the dice like rollDice and counts the roll. A bare roll never decides a round.
+     */
+    @Override
+    public void rollDice() {
+        super.rollDice();
+        myRolls++;
+    }
+
+    /**
+     * Starts timing the round if it is the first round after a flush and has not rolled yet.
+     */
+    private void startRound() {
+        if (myRoundNumber == 0 && getPoint() == 0) {
+            myRoundStart = System.nanoTime();
+        }
+    }
+
+    /**
+     * Counts a roll, and the round if the roll decided it, flushing every few rounds.
+     *
+     * @param theBet The bet before the roll.
+     * @param thePlayerWins The player's wins before the roll.
+     * @param theHouseWins The house's wins before the roll.
+     */
+    private void countRoll(int theBet, int thePlayerWins, int theHouseWins) {
+        myRolls++;
+        if (getPlayerWins() != thePlayerWins) {
+            myPlayerWins++;
+        } else if (getHouseWins() != theHouseWins) {
+            myHouseWins++;
+        } else {
+            return;
+        }
+        if (theBet > 0) {
+            mySettlements++;
+        }
+        if (myRoundNumber == 0 && myRoundStart != 0) {
+            myMetrics.recordRoundNanos(System.nanoTime() - myRoundStart);
+            myRoundStart = 0;
+        }
+        if (++myRoundNumber == myFlushRounds) {
+            flush();
+        }
+    }
+
+    /**
+     * Updates the bet like updateBet and counts it if it was accepted.
+     * Bets are rare next to rolls, so they go straight to the shared counters.
+     *
+     * @param theBet The amount to be added to the current bet.
+     */
+    @Override
+    public void updateBet(int theBet) {
+        final int bank = getBankBalance();
+        super.updateBet(theBet);
+        if (getBankBalance() != bank) {
+            myMetrics.recordBet(theBet);
+        }
+    }
+
+    /**
+     * Resets the game like resetGame, flushing the counts first.
+     */
+    @Override
+    public void resetGame() {
+        flush();
+        super.resetGame();
+    }
+
+    /**
+     * Adds the counts kept since the last flush to the shared metrics.
+     */
+    public void flush() {
+        myMetrics.recordRounds(myRolls, myPlayerWins, myHouseWins, mySettlements);
+        myRoundNumber = 0;
+        myRolls = 0;
+        myPlayerWins = 0;
+        myHouseWins = 0;
+        mySettlements = 0;
+    }
+}
@@ -0,0 +1,94 @@
+package model;
+
+import java.io.Closeable;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A GameListener that hands every change to another listener on a
+ * background thread. Changes wait in a bounded queue; when the queue is
+ * full a change is dropped and counted instead of blocking the thread
+ * that plays the table. The snapshots are immutable, so the background
+ * listener never races the game.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public class AsyncGameListener implements GameListener, Closeable {
+    /**
+     * The number of changes that can wait when no capacity is given.
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private final GameListener myListener;
+    private final ThreadPoolExecutor myExecutor;
+    private final LongAdder myDropped;
+
+    /**
+     * Constructs a new AsyncGameListener with the default capacity.
+     *
+     * @param theListener The listener to call in the background.
+     */
+    public AsyncGameListener(GameListener theListener) {
+        this(theListener, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a new AsyncGameListener.
+     *
+     * @param theListener The listener to call in the background.
+     * @param theCapacity The number of changes that can wait to be delivered.
+     * @throws IllegalArgumentException If the capacity is not positive.
+     */
+    public AsyncGameListener(GameListener theListener, int theCapacity) {
+        if (theCapacity <= 0) {
+            throw new IllegalArgumentException("ONLY POSITIVE NUMBERS");
+        }
+        myListener = theListener;
+        myDropped = new LongAdder();
+        myExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(theCapacity),
+                r -> {
+                    final Thread thread = new Thread(r, "game-listener");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (r, executor) -> myDropped.increment());
+    }
+
+    /**
+     * Queues the change for the background listener, or drops it if the queue is full.
+     *
+     * @param theEvent The kind of change.
+     * @param theState The state of the game after the change.
+     */
+    @Override
+    public void gameChanged(GameEvent theEvent, RollResult theState) {
+        myExecutor.execute(() -> myListener.gameChanged(theEvent, theState));
+    }
+
+    /**
+     * Gets the number of changes dropped because the queue was full or the listener was closed.
+     *
+     * @return The number of dropped changes.
+     */
+    public long getDropped() {
+        return myDropped.sum();
+    }
+
+    /**
+     * Delivers the changes already queued and stops the background thread.
+     * Changes sent after closing are dropped.
+     */
+    @Override
+    public void close() {
+        myExecutor.shutdown();
+        try {
+            myExecutor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * This class holds the outcome of many back-testing sessions: how each
+ * session ended and the distribution of final bankrolls. Final banks are
+ * counted in fixed-width buckets, so the result has the same size no
+ * matter how many sessions were played, and results of separate workers
+ * can be merged.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public final class BacktestResult {
+    private final long myBucketWidth;
+    private final long[] myHistogram;
+    private long mySessions;
+    private long myRuined;
+    private long myStoppedWin;
+    private long myStoppedLoss;
+    private long myRounds;
+    private long myFinalBankSum;
+    private long myMinFinalBank;
+    private long myMaxFinalBank;
+    private long myElapsedNanos;
+
+    /**
+     * Constructs an empty BacktestResult.
+     *
+     * @param theBucketWidth The width of each final-bank bucket.
+     * @param theBuckets The number of buckets; banks past the last bucket are counted in it.
+     */
+    BacktestResult(long theBucketWidth, int theBuckets) {
+        myBucketWidth = theBucketWidth;
+        myHistogram = new long[theBuckets];
+        myMinFinalBank = Long.MAX_VALUE;
+        myMaxFinalBank = Long.MIN_VALUE;
+    }
+
+    /**
+     * Records one finished session.
+     *
+     * @param theFinalBank The bank at the end of the session.
+     * @param theRounds The number of rounds played.
+     * @param theRuined true if the bank could no longer cover the base bet.
+     * @param theStoppedWin true if the session reached its stop-win.
+     * @param theStoppedLoss true if the session reached its stop-loss.
+     */
+    void record(long theFinalBank, int theRounds, boolean theRuined, boolean theStoppedWin,
+                boolean theStoppedLoss) {
+        mySessions++;
+        myRounds += theRounds;
+        myFinalBankSum += theFinalBank;
+        myMinFinalBank = Math.min(myMinFinalBank, theFinalBank);
+        myMaxFinalBank = Math.max(myMaxFinalBank, theFinalBank);
+        if (theRuined) {
+            myRuined++;
+        }
+        if (theStoppedWin) {
+            myStoppedWin++;
+        }
+        if (theStoppedLoss) {
+            myStoppedLoss++;
+        }
+        myHistogram[(int) Math.min(myHistogram.length - 1, theFinalBank / myBucketWidth)]++;
+    }
+
+    /**
+     * Adds the sessions of another result to this one.
+     *
+     * @param theOther The result to add.
+     * @return This result.
+     */
+    BacktestResult merge(BacktestResult theOther) {
+        mySessions += theOther.mySessions;
+        myRuined += theOther.myRuined;
+        myStoppedWin += theOther.myStoppedWin;
+        myStoppedLoss += theOther.myStoppedLoss;
+        myRounds += theOther.myRounds;
+        myFinalBankSum += theOther.myFinalBankSum;
+        myMinFinalBank = Math.min(myMinFinalBank, theOther.myMinFinalBank);
+        myMaxFinalBank = Math.max(myMaxFinalBank, theOther.myMaxFinalBank);
+        for (int i = 0; i < myHistogram.length; i++) {
+            myHistogram[i] += theOther.myHistogram[i];
+        }
+        return this;
+    }
+
+    /**
+     * Sets the wall-clock time of the run.
+     *
+     * @param theElapsedNanos The elapsed time in nanoseconds.
+     */
+    void setElapsedNanos(long theElapsedNanos) {
+        myElapsedNanos = theElapsedNanos;
+    }
+
+    /**
+     * Gets the number of sessions played.
+     *
+     * @return The number of sessions.
+     */
+    public long getSessions() {
+        return mySessions;
+    }
+
+    /**
+     * Gets the number of sessions that ended unable to cover the base bet.
+     *
+     * @return The number of ruined sessions.
+     */
+    public long getRuinCount() {
+        return myRuined;
+    }
+
+    /**
+     * Gets the fraction of sessions that ended unable to cover the base bet.
+     *
+     * @return The risk of ruin.
+     */
+    public double getRiskOfRuin() {
+        return mySessions == 0 ? 0.0 : (double) myRuined / mySessions;
+    }
+
+    /**
+     * Gets the number of sessions that reached their stop-win.
+     *
+     * @return The number of stop-win sessions.
+     */
+    public long getStopWinCount() {
+        return myStoppedWin;
+    }
+
+    /**
+     * Gets the number of sessions that reached their stop-loss.
+     *
+     * @return The number of stop-loss sessions.
+     */
+    public long getStopLossCount() {
+        return myStoppedLoss;
+    }
+
+    /**
+     * Gets the number of rounds played over all sessions.
+     *
+     * @return The number of rounds.
+     */
+    public long getRounds() {
+        return myRounds;
+    }
+
+    /**
+     * Gets the mean bank at the end of a session.
+     *
+     * @return The mean final bank.
+     */
+    public double getMeanFinalBank() {
+        return mySessions == 0 ? 0.0 : (double) myFinalBankSum / mySessions;
+    }
+
+    /**
+     * Gets the lowest bank any session ended with.
+     *
+     * @return The minimum final bank.
+     */
+    public long getMinFinalBank() {
+        return myMinFinalBank;
+    }
+
+    /**
+     * Gets the highest bank any session ended with.
+     *
+     * @return The maximum final bank.
+     */
+    public long getMaxFinalBank() {
+        return myMaxFinalBank;
+    }
+
+    /**
+     * Estimates a quantile of the final bank from the histogram.
+     *
+     * @param theFraction The quantile as a fraction, such as 0.5 for the median.
+     * @return The lower edge of the bucket holding the quantile.
+     */
+    public long getFinalBankQuantile(double theFraction) {
+        final long rank = (long) Math.ceil(theFraction * mySessions);
+        long seen = 0;
+        for (int i = 0; i < myHistogram.length; i++) {
+            seen += myHistogram[i];
+            if (seen >= rank && seen > 0) {
+                return i * myBucketWidth;
+            }
+        }
+        return (myHistogram.length - 1) * myBucketWidth;
+    }
+
+    /**
+     * Gets the counts of final banks per bucket.
+     *
+     * @return A copy of the histogram; bucket i counts banks from i times the width.
+     */
+    public long[] getHistogram() {
+        return Arrays.copyOf(myHistogram, myHistogram.length);
+    }
+
+    /**
+     * Gets the width of each final-bank bucket.
+     *
+     * @return The bucket width.
+     */
+    public long getBucketWidth() {
+        return myBucketWidth;
+    }
+
+    /**
+     * Gets the wall-clock time of the run.
+     *
+     * @return The elapsed time in nanoseconds.
+     */
+    public long getElapsedNanos() {
+        return myElapsedNanos;
+    }
+
+    /**
+     * Returns a short report of the run.
+     *
+     * @return The session count, risk of ruin and final bank distribution as text.
+     */
+    @Override
+    public String toString() {
+        return String.format("sessions=%d rounds=%d ruin=%.4f stop-win=%d stop-loss=%d mean bank=%.1f"
+                        + " p5=%d median=%d p95=%d time=%.0fms",
+                mySessions, myRounds, getRiskOfRuin(), myStoppedWin, myStoppedLoss, getMeanFinalBank(),
+                getFinalBankQuantile(0.05), getFinalBankQuantile(0.5), getFinalBankQuantile(0.95),
+                myElapsedNanos / 1e6);
+    }
+}
@@ -0,0 +1,195 @@
+package model;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class keeps the bank balances and open bets of many players.
+ * Balances are longs so large simulated bankrolls cannot overflow, and
+ * every update is a compare-and-set on the player's slot, so any number
+ * of threads can update the ledger without locks.
+
+ * The total money held by all players, counting open bets, is tracked
+ * in a striped LongAdder so the house view can read it without
+ * walking every account.
+
+ * Only applyRound moves money in a single atomic step. updateBet and
+ * settleBet update the balance and the open bet one after the other, so
+ * a thread reading getBankBalance and getBet while they run can briefly
+ * see the moving amount in neither of them. getTotalBalance is not
+ * affected because the money never leaves the account.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public class BankLedger {
+    private final AtomicLongArray myBalances;
+    private final AtomicLongArray myBets;
+    private final LongAdder myTotal;
+
+    /**
+     * Constructs a new BankLedger with every balance at zero.
+     *
+     * @param thePlayers The number of player accounts.
+     */
+    public BankLedger(int thePlayers) {
+        myBalances = new AtomicLongArray(thePlayers);
+        myBets = new AtomicLongArray(thePlayers);
+        myTotal = new LongAdder();
+    }
+
+    /**
+     * Sets a player's bank balance.
+     *
+     * @param thePlayer The player's account number.
+     * @param theAmount The amount to set as the bank balance.
+     * @throws NumberFormatException If the specified amount is negative.
+     */
+    public void setBankBalance(int thePlayer, long theAmount) {
+        if (theAmount < 0) {
+            throw new NumberFormatException("ONLY POSITIVE NUMBERS");
+        }
+        final long previous = myBalances.getAndSet(thePlayer, theAmount);
+        myTotal.add(theAmount - previous);
+    }
+
+    /**
+     * Adds money to a player's bank balance.
+     *
+     * @param thePlayer The player's account number.
+     * @param theAmount The amount to add.
+     * @throws NumberFormatException If the specified amount is negative.
+     * @throws ArithmeticException If the balance would overflow.
+     */
+    public void deposit(int thePlayer, long theAmount) {
+        if (theAmount < 0) {
+            throw new NumberFormatException("ONLY POSITIVE NUMBERS");
+        }
+        long balance;
+        do {
+            balance = myBalances.get(thePlayer);
+        } while (!myBalances.compareAndSet(thePlayer, balance, Math.addExact(balance, theAmount)));
+        myTotal.add(theAmount);
+    }
+
+    /**
+     * Moves money from a player's bank balance into their open bet,
+     * following the same rules as updateBet.
+     *
+     * @param thePlayer The player's account number.
+     * @param theBet The amount to be added to the open bet.
+     * @return true if the bet was placed, false if it was not positive
+     * or more than the bank balance.
+     */
+    public boolean updateBet(int thePlayer, long theBet) {
+        if (theBet <= 0) {
+            return false;
+        }
+        long balance;
+        do {
+            balance = myBalances.get(thePlayer);
+            if (theBet > balance) {
+                return false;
+            }
+        } while (!myBalances.compareAndSet(thePlayer, balance, balance - theBet));
+        myBets.getAndAdd(thePlayer, theBet);
+        return true;
+    }
+
+    /**
+     * Settles a player's open bet. A win pays twice the bet into the bank
+     * like winBet, and a loss forfeits it like loseBet.
+     *
+     * @param thePlayer The player's account number.
+     * @param theWon true if the player won the round.
+     * @return The amount paid into the bank.
+     * @throws ArithmeticException If the winnings would overflow the balance,
+     * in which case the bet is left open.
+     */
+    public long settleBet(int thePlayer, boolean theWon) {
+        final long bet = myBets.getAndSet(thePlayer, 0);
+        if (theWon) {
+            final long winnings;
+            try {
+                winnings = Math.multiplyExact(bet, 2);
+                long balance;
+                do {
+                    balance = myBalances.get(thePlayer);
+                } while (!myBalances.compareAndSet(thePlayer, balance, Math.addExact(balance, winnings)));
+            } catch (ArithmeticException e) {
+                myBets.getAndAdd(thePlayer, bet);
+                throw e;
+            }
+            myTotal.add(bet);
+            return winnings;
+        }
+        myTotal.add(-bet);
+        return 0;
+    }
+
+    /**
+     * Places a bet and settles it in one atomic update of the player's balance.
+     * No other thread can see the bet taken without its settlement.
+     *
+     * @param thePlayer The player's account number.
+     * @param theBet The amount bet on the round.
+     * @param theWon true if the player won the round.
+     * @return true if the round was applied, false if the bet was not
+     * positive or more than the bank balance.
+     */
+    public boolean applyRound(int thePlayer, long theBet, boolean theWon) {
+        if (theBet <= 0) {
+            return false;
+        }
+        final long delta = theWon ? theBet : -theBet;
+        long balance;
+        do {
+            balance = myBalances.get(thePlayer);
+            if (theBet > balance) {
+                return false;
+            }
+        } while (!myBalances.compareAndSet(thePlayer, balance, Math.addExact(balance, delta)));
+        myTotal.add(delta);
+        return true;
+    }
+
+    /**
+     * Gets a player's bank balance.
+     *
+     * @param thePlayer The player's account number.
+     * @return The bank balance, not counting the open bet.
+     */
+    public long getBankBalance(int thePlayer) {
+        return myBalances.get(thePlayer);
+    }
+
+    /**
+     * Gets a player's open bet.
+     *
+     * @param thePlayer The player's account number.
+     * @return The open bet amount.
+     */
+    public long getBet(int thePlayer) {
+        return myBets.get(thePlayer);
+    }
+
+    /**
+     * Gets the money held by all players, including open bets.
+     * The read is not a snapshot: updates that run at the same time
+     * may or may not be included.
+     *
+     * @return The sum of every balance and open bet.
+     */
+    public long getTotalBalance() {
+        return myTotal.sum();
+    }
+
+    /**
+     * Gets the number of player accounts.
+     *
+     * @return The number of accounts.
+     */
+    public int size() {
+        return myBalances.length();
+    }
+}
@@ -0,0 +1,66 @@
+package model;
+
+/**
+ * Plays a range of reproducible pass-line rounds in bulk.
+ * Round r rolls from position r * 2^32 of a CounterDiceSource sequence,
+ * the same layout ParallelSimulator.runReproducible uses, so every engine
+ * produces identical tallies for the same seed and range.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public interface BatchEngine {
+
+    /**
+     * Plays every round in a range.
+     *
+     * @param theSeed The seed of the dice sequence.
+     * @param theFrom The first round number, inclusive.
+     * @param theTo The last round number, exclusive.
+     * @return The tallies of the rounds, with the bank left at zero.
+     */
+    SimulationResult play(long theSeed, long theFrom, long theTo);
+
+    /**
+     * Creates an engine that plays one round at a time.
+     *
+     * @return The scalar engine.
+     */
+    static BatchEngine scalar() {
+        return new ScalarBatchEngine();
+    }
+
+    /**
+     * Creates an engine that plays one round per SIMD lane with the
+     * jdk.incubator.vector module. The module has to be added to both
+     * the compiler and the JVM with --add-modules jdk.incubator.vector.
+     *
+     * @return The vector engine.
+     * @throws UnsupportedOperationException If the vector module is not available.
+     */
+    static BatchEngine vector() {
+        try {
+            return (BatchEngine) Class.forName("model.VectorBatchEngine").getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            throw new UnsupportedOperationException("jdk.incubator.vector is not available", e);
+        }
+    }
+
+    /**
+     * Creates the engine named by the craps.engine system property.
+     * The scalar engine is used unless the property is vector, and also
+     * when the vector module is not available.
+     *
+     * @return The configured engine.
+     */
+    static BatchEngine configured() {
+        if ("vector".equalsIgnoreCase(System.getProperty("craps.engine"))) {
+            try {
+                return vector();
+            } catch (UnsupportedOperationException e) {
+                return scalar();
+            }
+        }
+        return scalar();
+    }
+}
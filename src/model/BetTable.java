@@ -0,0 +1,391 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * This class carries many simultaneous wagers on one craps table.
+ * Each roll settles every active wager with lookups into precomputed
+ * resolution and payout tables indexed by (bet type, phase, total),
+ * where the phase is the table's point, or 0 on the come-out. The rules
+ * are only evaluated once, when the tables are built.
+
+ * Payouts follow winBet: a winning wager returns its stake plus the
+ * winnings to the bank, so an even-money pass bet returns twice the bet.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public class BetTable {
+    private static final byte NONE = 0;
+    private static final byte WIN = 1;
+    private static final byte LOSE = 2;
+    private static final byte PUSH = 3;
+    private static final byte MOVE = 4;
+
+    private static final int TYPES = BetType.values().length;
+    private static final int PHASES = 11;
+    private static final int TOTALS = 13;
+    private static final BetType[] BY_ORDINAL = BetType.values();
+
+    private static final byte[] ACTION = new byte[TYPES * PHASES * TOTALS];
+    private static final byte[] NEXT_TYPE = new byte[TYPES * TOTALS];
+    private static final int[] PAYOUT_NUMERATOR = new int[TYPES * PHASES * TOTALS];
+    private static final int[] PAYOUT_DENOMINATOR = new int[TYPES * PHASES * TOTALS];
+
+    static {
+        for (BetType type : BY_ORDINAL) {
+            for (int total = 2; total < TOTALS; total++) {
+                NEXT_TYPE[type.ordinal() * TOTALS + total] = (byte) moveTo(type, total).ordinal();
+                for (int phase = 0; phase < PHASES; phase++) {
+                    final int index = (type.ordinal() * PHASES + phase) * TOTALS + total;
+                    final int[] payout = payout(type, phase, total);
+                    ACTION[index] = action(type, phase, total);
+                    PAYOUT_NUMERATOR[index] = payout[0];
+                    PAYOUT_DENOMINATOR[index] = payout[1];
+                }
+            }
+        }
+    }
+
+    private byte[] myTypes;
+    private int[] myAmounts;
+    private int myCount;
+    private int myPoint;
+    private long myBankBalance;
+
+    /**
+     * Constructs a new BetTable with no wagers and an empty bank.
+     */
+    public BetTable() {
+        myTypes = new byte[32];
+        myAmounts = new int[32];
+        myCount = 0;
+        myPoint = 0;
+        myBankBalance = 0;
+    }
+
+    /**
+     * Places a wager and deducts it from the bank, following the same
+     * rules as updateBet.
+     *
+     * @param theType The type of wager.
+     * @param theAmount The amount to wager.
+     * @return true if the wager was placed, false if the amount was not
+     * positive or more than the bank balance.
+     * @throws IllegalArgumentException If the type cannot be placed directly,
+     * or is an odds bet while no point is set.
+     */
+    public boolean placeBet(BetType theType, int theAmount) {
+        if (!theType.isPlaceable()) {
+            throw new IllegalArgumentException("BET TYPE CANNOT BE PLACED");
+        }
+        if ((theType == BetType.PASS_ODDS || theType == BetType.DONT_PASS_ODDS) && myPoint == 0) {
+            throw new IllegalArgumentException("ODDS NEED A POINT");
+        }
+        if (theAmount <= 0 || theAmount > myBankBalance) {
+            return false;
+        }
+        if (myCount == myTypes.length) {
+            myTypes = Arrays.copyOf(myTypes, myCount * 2);
+            myAmounts = Arrays.copyOf(myAmounts, myCount * 2);
+        }
+        myTypes[myCount] = (byte) theType.ordinal();
+        myAmounts[myCount] = theAmount;
+        myCount++;
+        myBankBalance -= theAmount;
+        return true;
+    }
+
+    /**
+     * Rolls the dice and settles every wager.
+     *
+     * @param theDice The source of the roll.
+     * @return The total rolled.
+     */
+    public int roll(DiceSource theDice) {
+        final int total = Dice.total(theDice.nextRoll());
+        settle(total);
+        return total;
+    }
+
+    /**
+     * Settles every wager against a total, pays winnings and returned stakes
+     * into the bank, and then moves the table's point like firstRoll and
+     * additionalRolls.
+     *
+     * @param theTotal The total rolled, 2 to 12.
+     * @return The amount paid into the bank.
+     */
+    public long settle(int theTotal) {
+        final byte[] types = myTypes;
+        final int[] amounts = myAmounts;
+        final int phaseBase = myPoint * TOTALS + theTotal;
+        long paid = 0;
+
+        int i = 0;
+        while (i < myCount) {
+            final int type = types[i];
+            final int index = type * PHASES * TOTALS + phaseBase;
+            switch (ACTION[index]) {
+                case WIN -> {
+                    paid += (long) amounts[i] * PAYOUT_NUMERATOR[index] / PAYOUT_DENOMINATOR[index];
+                    remove(i);
+                    continue;
+                }
+                case LOSE -> {
+                    remove(i);
+                    continue;
+                }
+                case PUSH -> {
+                    paid += amounts[i];
+                    remove(i);
+                    continue;
+                }
+                case MOVE -> types[i] = NEXT_TYPE[type * TOTALS + theTotal];
+                default -> {
+                    // The wager stays up.
+                }
+            }
+            i++;
+        }
+        myBankBalance += paid;
+        myPoint = nextPoint(myPoint, theTotal);
+        return paid;
+    }
+
+    /**
+     * Removes a wager by moving the last wager into its slot.
+     *
+     * @param theIndex The slot of the wager.
+     */
+    private void remove(int theIndex) {
+        myCount--;
+        myTypes[theIndex] = myTypes[myCount];
+        myAmounts[theIndex] = myAmounts[myCount];
+    }
+
+    /**
+     * Sets the bank balance.
+     *
+     * @param theAmount The amount to set as the bank balance.
+     * @throws NumberFormatException If the specified amount is negative.
+     */
+    public void setBankBalance(long theAmount) {
+        if (theAmount >= 0) {
+            myBankBalance = theAmount;
+        } else {
+            throw new NumberFormatException("ONLY POSITIVE NUMBERS");
+        }
+    }
+
+    /**
+     * Gets the bank balance.
+     *
+     * @return The bank balance, not counting active wagers.
+     */
+    public long getBankBalance() {
+        return myBankBalance;
+    }
+
+    /**
+     * Gets the table's point.
+     *
+     * @return The point, or 0 on the come-out.
+     */
+    public int getPoint() {
+        return myPoint;
+    }
+
+    /**
+     * Gets the number of active wagers.
+     *
+     * @return The number of wagers.
+     */
+    public int getActiveBets() {
+        return myCount;
+    }
+
+    /**
+     * Gets the type of an active wager.
+     *
+     * @param theIndex The wager's slot, 0 to getActiveBets() - 1.
+     * @return The type of the wager.
+     */
+    public BetType getBetType(int theIndex) {
+        return BY_ORDINAL[myTypes[theIndex]];
+    }
+
+    /**
+     * Gets the amount of an active wager.
+     *
+     * @param theIndex The wager's slot, 0 to getActiveBets() - 1.
+     * @return The amount of the wager.
+     */
+    public int getBetAmount(int theIndex) {
+        return myAmounts[theIndex];
+    }
+
+    /**
+     * Gets the total of all active wagers.
+     *
+     * @return The sum of the wager amounts.
+     */
+    public long getTotalBet() {
+        long total = 0;
+        for (int i = 0; i < myCount; i++) {
+            total += myAmounts[i];
+        }
+        return total;
+    }
+
+    /**
+     * Moves the table's point after a roll.
+     *
+     * @param thePoint The point before the roll, or 0 on the come-out.
+     * @param theTotal The total rolled.
+     * @return The point after the roll.
+     */
+    private static int nextPoint(int thePoint, int theTotal) {
+        if (thePoint == 0) {
+            return isPoint(theTotal) ? theTotal : 0;
+        }
+        return theTotal == thePoint || theTotal == 7 ? 0 : thePoint;
+    }
+
+    /**
+     * Checks if a total can become a point.
+     *
+     * @param theTotal The total.
+     * @return true for 4, 5, 6, 8, 9 and 10.
+     */
+    private static boolean isPoint(int theTotal) {
+        return theTotal >= 4 && theTotal <= 10 && theTotal != 7;
+    }
+
+    /**
+     * Decides what one roll does to one type of wager. Only used to build the tables.
+     *
+     * @param theType The type of wager.
+     * @param thePhase The table's point, or 0 on the come-out.
+     * @param theTotal The total rolled.
+     * @return NONE, WIN, LOSE, PUSH or MOVE.
+     */
+    private static byte action(BetType theType, int thePhase, int theTotal) {
+        return switch (theType) {
+            case PASS -> thePhase == 0 ? lineComeOut(theTotal, false) : linePoint(thePhase, theTotal, false);
+            case DONT_PASS -> thePhase == 0 ? lineComeOut(theTotal, true) : linePoint(thePhase, theTotal, true);
+            case COME -> comeOut(lineComeOut(theTotal, false));
+            case DONT_COME -> comeOut(lineComeOut(theTotal, true));
+            case PASS_ODDS -> thePhase == 0 ? NONE : linePoint(thePhase, theTotal, false);
+            case DONT_PASS_ODDS -> thePhase == 0 ? NONE : linePoint(thePhase, theTotal, true);
+            case PLACE_4, PLACE_5, PLACE_6, PLACE_8, PLACE_9, PLACE_10 ->
+                    thePhase == 0 ? NONE : linePoint(numberOf(theType), theTotal, false);
+            case FIELD -> theTotal >= 5 && theTotal <= 8 ? LOSE : WIN;
+            case COME_4, COME_5, COME_6, COME_8, COME_9, COME_10 -> linePoint(numberOf(theType), theTotal, false);
+            default -> linePoint(numberOf(theType), theTotal, true);
+        };
+    }
+
+    /**
+     * Turns the come-out result of a come or don't come bet into a table action,
+     * where setting the bet's own point moves it to a point type.
+     *
+     * @param theAction The come-out result.
+     * @return The table action.
+     */
+    private static byte comeOut(byte theAction) {
+        return theAction == NONE ? MOVE : theAction;
+    }
+
+    /**
+     * Applies the come-out rules of firstRoll to a line bet.
+     *
+     * @param theTotal The total rolled.
+     * @param theDont true for the don't side.
+     * @return The action for the bet.
+     */
+    private static byte lineComeOut(int theTotal, boolean theDont) {
+        if (theTotal == 7 || theTotal == 11) {
+            return theDont ? LOSE : WIN;
+        } else if (theTotal == 12) {
+            return theDont ? PUSH : LOSE;
+        } else if (theTotal == 2 || theTotal == 3) {
+            return theDont ? WIN : LOSE;
+        }
+        return NONE;
+    }
+
+    /**
+     * Applies the point rules of additionalRolls to a bet on a number.
+     *
+     * @param theNumber The number the bet is on.
+     * @param theTotal The total rolled.
+     * @param theDont true for the don't side.
+     * @return The action for the bet.
+     */
+    private static byte linePoint(int theNumber, int theTotal, boolean theDont) {
+        if (theTotal == theNumber) {
+            return theDont ? LOSE : WIN;
+        } else if (theTotal == 7) {
+            return theDont ? WIN : LOSE;
+        }
+        return NONE;
+    }
+
+    /**
+     * Gets the come point type a come or don't come bet moves to.
+     *
+     * @param theType The type of wager.
+     * @param theTotal The total rolled.
+     * @return The type after the move, or the same type if it does not move.
+     */
+    private static BetType moveTo(BetType theType, int theTotal) {
+        if (!isPoint(theTotal) || (theType != BetType.COME && theType != BetType.DONT_COME)) {
+            return theType;
+        }
+        final String prefix = theType == BetType.COME ? "COME_" : "DONT_COME_";
+        return BetType.valueOf(prefix + theTotal);
+    }
+
+    /**
+     * Gets the number a place or come point bet is on.
+     *
+     * @param theType The type of wager.
+     * @return The number in the type's name.
+     */
+    private static int numberOf(BetType theType) {
+        final String name = theType.name();
+        return Integer.parseInt(name.substring(name.lastIndexOf('_') + 1));
+    }
+
+    /**
+     * Gets what a winning wager returns to the bank per unit bet, as a fraction.
+     * Odds bets are paid at the true odds of their point.
+     *
+     * @param theType The type of wager.
+     * @param thePhase The table's point, or 0 on the come-out.
+     * @param theTotal The winning total.
+     * @return The numerator and denominator of the return, stake included.
+     */
+    private static int[] payout(BetType theType, int thePhase, int theTotal) {
+        return switch (theType) {
+            case PASS_ODDS -> switch (thePhase) {
+                case 4, 10 -> new int[]{3, 1};
+                case 5, 9 -> new int[]{5, 2};
+                case 6, 8 -> new int[]{11, 5};
+                default -> new int[]{2, 1};
+            };
+            case DONT_PASS_ODDS -> switch (thePhase) {
+                case 4, 10 -> new int[]{3, 2};
+                case 5, 9 -> new int[]{5, 3};
+                case 6, 8 -> new int[]{11, 6};
+                default -> new int[]{2, 1};
+            };
+            case PLACE_4, PLACE_10 -> new int[]{14, 5};
+            case PLACE_5, PLACE_9 -> new int[]{12, 5};
+            case PLACE_6, PLACE_8 -> new int[]{13, 6};
+            case FIELD -> theTotal == 2 || theTotal == 12 ? new int[]{3, 1} : new int[]{2, 1};
+            default -> new int[]{2, 1};
+        };
+    }
+}
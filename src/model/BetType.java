@@ -0,0 +1,71 @@
+package model;
+
+/**
+ * The kinds of wager a BetTable can carry.
+ * The COME_ and DONT_COME_ point types are the states a come or don't come
+ * bet moves to once its own point is set; they cannot be placed directly.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public enum BetType {
+    /** Wins on a natural or the point, loses on craps or a seven-out. */
+    PASS,
+    /** The opposite of a pass bet, with 12 on the come-out as a push. */
+    DONT_PASS,
+    /** A pass bet made on its own come-out roll. */
+    COME,
+    /** A don't pass bet made on its own come-out roll. */
+    DONT_COME,
+    /** Free odds behind the pass line, paid at true odds. */
+    PASS_ODDS,
+    /** Free odds behind the don't pass line, paid at true odds. */
+    DONT_PASS_ODDS,
+    /** Wins if 4 rolls before 7. */
+    PLACE_4,
+    /** Wins if 5 rolls before 7. */
+    PLACE_5,
+    /** Wins if 6 rolls before 7. */
+    PLACE_6,
+    /** Wins if 8 rolls before 7. */
+    PLACE_8,
+    /** Wins if 9 rolls before 7. */
+    PLACE_9,
+    /** Wins if 10 rolls before 7. */
+    PLACE_10,
+    /** A one-roll bet on 2, 3, 4, 9, 10, 11 or 12. */
+    FIELD,
+    /** A come bet whose point is 4. */
+    COME_4,
+    /** A come bet whose point is 5. */
+    COME_5,
+    /** A come bet whose point is 6. */
+    COME_6,
+    /** A come bet whose point is 8. */
+    COME_8,
+    /** A come bet whose point is 9. */
+    COME_9,
+    /** A come bet whose point is 10. */
+    COME_10,
+    /** A don't come bet whose point is 4. */
+    DONT_COME_4,
+    /** A don't come bet whose point is 5. */
+    DONT_COME_5,
+    /** A don't come bet whose point is 6. */
+    DONT_COME_6,
+    /** A don't come bet whose point is 8. */
+    DONT_COME_8,
+    /** A don't come bet whose point is 9. */
+    DONT_COME_9,
+    /** A don't come bet whose point is 10. */
+    DONT_COME_10;
+
+    /**
+     * Checks if a player can place this type of bet directly.
+     *
+     * @return false for the come and don't come point types, true otherwise.
+     */
+    public boolean isPlaceable() {
+        return ordinal() < COME_4.ordinal();
+    }
+}
@@ -0,0 +1,24 @@
+package model;
+
+/**
+ * A rule for sizing the bet of each round in a session.
+ * Implementations must not allocate: they are called once per round
+ * on the back-testing hot path, and everything they need is passed in.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public interface BettingStrategy {
+
+    /**
+     * Decides the bet for the next round. The engine caps the bet at the bank
+     * balance, the same way updateBet will not take more than the bank holds.
+     *
+     * @param theBaseBet The session's base bet.
+     * @param theLastBet The bet of the previous round, or 0 on the first round.
+     * @param theLastWon true if the previous round was won.
+     * @param theBank The current bank balance.
+     * @return The bet for the next round; 0 or less ends the session.
+     */
+    int nextBet(int theBaseBet, int theLastBet, boolean theLastWon, long theBank);
+}
@@ -0,0 +1,71 @@
+package model;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * A dice source that pre-generates rolls in batches.
+ * Every random draw is a number below 36^5, which holds five
+ * independent outcomes as base-36 digits, so one draw fills five
+ * slots of a primitive buffer. Rolls are then served from the buffer
+ * until it runs out and the next batch is generated.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public class BufferedDiceSource implements DiceSource {
+    private static final int ROLLS_PER_DRAW = 5;
+    private static final int DRAW_BOUND = 36 * 36 * 36 * 36 * 36;
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    private final RandomGenerator myRoller;
+    private final byte[] myBuffer;
+    private int myPosition;
+
+    /**
+     * Constructs a new BufferedDiceSource.
+     *
+     * @param theRoller The random number generator to roll with.
+     * @param theCapacity The number of rolls generated per batch.
+     * @throws IllegalArgumentException If the capacity is less than five.
+     */
+    public BufferedDiceSource(RandomGenerator theRoller, int theCapacity) {
+        if (theCapacity < ROLLS_PER_DRAW) {
+            throw new IllegalArgumentException("CAPACITY TOO SMALL");
+        }
+        myRoller = theRoller;
+        myBuffer = new byte[theCapacity - theCapacity % ROLLS_PER_DRAW];
+        myPosition = myBuffer.length;
+    }
+
+    /**
+     * Constructs a new BufferedDiceSource with the default batch size.
+     *
+     * @param theRoller The random number generator to roll with.
+     */
+    public BufferedDiceSource(RandomGenerator theRoller) {
+        this(theRoller, DEFAULT_CAPACITY);
+    }
+
+    @Override
+    public int nextRoll() {
+        if (myPosition == myBuffer.length) {
+            refill();
+        }
+        return myBuffer[myPosition++];
+    }
+
+    /**
+     * Generates the next batch of rolls.
+     */
+    private void refill() {
+        final byte[] buffer = myBuffer;
+        for (int i = 0; i < buffer.length; i += ROLLS_PER_DRAW) {
+            int draw = myRoller.nextInt(DRAW_BOUND);
+            for (int j = 0; j < ROLLS_PER_DRAW; j++) {
+                buffer[i + j] = (byte) (draw % Dice.OUTCOMES);
+                draw /= Dice.OUTCOMES;
+            }
+        }
+        myPosition = 0;
+    }
+}
@@ -0,0 +1,94 @@
+package model;
+
+/**
+ * A dice source in which any roll of the sequence can be computed directly.
+ * Roll number k is a hash of the seed and k, so the source can jump to any
+ * position without generating the rolls before it. Workers can therefore
+ * each take a disjoint slice of one seeded sequence, and the rolls they see
+ * do not depend on how the sequence was split.
+
+ * The hash is the SplitMix64 finalizer, and the 64-bit result is scaled
+ * into one of the 36 outcomes with a multiply, which leaves a bias of at
+ * most 36 in 2^64.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public class CounterDiceSource implements DiceSource {
+    static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final long myKey;
+    private long myPosition;
+
+    /**
+     * Constructs a new CounterDiceSource.
+     *
+     * @param theSeed The seed of the sequence.
+     * @param thePosition The number of the first roll to return.
+     */
+    public CounterDiceSource(long theSeed, long thePosition) {
+        myKey = mix(theSeed);
+        myPosition = thePosition;
+    }
+
+    @Override
+    public int nextRoll() {
+        return roll(myKey, myPosition++);
+    }
+
+    /**
+     * Moves the source to a roll number.
+     *
+     * @param thePosition The number of the next roll to return.
+     */
+    public void seek(long thePosition) {
+        myPosition = thePosition;
+    }
+
+    /**
+     * Gets the number of the next roll the source will return.
+     *
+     * @return The position in the sequence.
+     */
+    public long getPosition() {
+        return myPosition;
+    }
+
+    /**
+     * Computes one roll of a seeded sequence.
+     *
+     * @param theSeed The seed of the sequence.
+     * @param thePosition The roll number.
+     * @return The outcome of the roll, 0 to 35.
+     */
+    public static int rollAt(long theSeed, long thePosition) {
+        return roll(mix(theSeed), thePosition);
+    }
+
+    /**
+     * Computes one roll from an already mixed key.
+     *
+     * @param theKey The mixed seed.
+     * @param thePosition The roll number.
+     * @return The outcome of the roll, 0 to 35.
+     */
+    static int roll(long theKey, long thePosition) {
+        final long bits = mix(theKey + thePosition * GOLDEN_GAMMA);
+        final long high = (bits >>> 32) * Dice.OUTCOMES;
+        final long low = (bits & 0xFFFFFFFFL) * Dice.OUTCOMES;
+        return (int) ((high + (low >>> 32)) >>> 32);
+    }
+
+    /**
+     * Scrambles 64 bits with the SplitMix64 finalizer.
+     *
+     * @param theValue The value to scramble.
+     * @return The scrambled value.
+     */
+    static long mix(long theValue) {
+        long z = theValue;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,74 @@
+package model;
+
+/**
+ * This class decodes dice outcomes.
+ * An outcome is one of the 36 ways two dice can land, numbered
+ * (die one - 1) * 6 + (die two - 1), so a single draw in the range
+ * 0 to 35 describes a whole roll. The dice values and total of every
+ * outcome are precomputed in lookup tables.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public final class Dice {
+    /**
+     * The number of distinct outcomes of two six-sided dice.
+     */
+    public static final int OUTCOMES = 36;
+
+    private static final byte[] DIE_ONE = new byte[OUTCOMES];
+    private static final byte[] DIE_TWO = new byte[OUTCOMES];
+    private static final byte[] TOTAL = new byte[OUTCOMES];
+
+    static {
+        for (int i = 0; i < OUTCOMES; i++) {
+            DIE_ONE[i] = (byte) (i / 6 + 1);
+            DIE_TWO[i] = (byte) (i % 6 + 1);
+            TOTAL[i] = (byte) (DIE_ONE[i] + DIE_TWO[i]);
+        }
+    }
+
+    private Dice() {
+    }
+
+    /**
+     * Encodes two dice values as an outcome.
+     *
+     * @param theDieOne The value of the first die, 1 to 6.
+     * @param theDieTwo The value of the second die, 1 to 6.
+     * @return The outcome, 0 to 35.
+     */
+    public static int outcome(int theDieOne, int theDieTwo) {
+        return (theDieOne - 1) * 6 + (theDieTwo - 1);
+    }
+
+    /**
+     * Gets the value of the first die of an outcome.
+     *
+     * @param theOutcome The outcome, 0 to 35.
+     * @return The value of the first die.
+     */
+    public static int dieOne(int theOutcome) {
+        return DIE_ONE[theOutcome];
+    }
+
+    /**
+     * Gets the value of the second die of an outcome.
+     *
+     * @param theOutcome The outcome, 0 to 35.
+     * @return The value of the second die.
+     */
+    public static int dieTwo(int theOutcome) {
+        return DIE_TWO[theOutcome];
+    }
+
+    /**
+     * Gets the total of an outcome.
+     *
+     * @param theOutcome The outcome, 0 to 35.
+     * @return The total of both dice.
+     */
+    public static int total(int theOutcome) {
+        return TOTAL[theOutcome];
+    }
+}
@@ -0,0 +1,19 @@
+package model;
+
+/**
+ * A source of dice rolls for the game.
+ * Each roll is returned as a single outcome that the Dice class
+ * decodes into the two dice values and their total.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public interface DiceSource {
+
+    /**
+     * Rolls both dice.
+     *
+     * @return The outcome of the roll, 0 to 35.
+     */
+    int nextRoll();
+}
@@ -0,0 +1,303 @@
+package model;
+
+import java.util.function.Consumer;
+
+/**
+ * A dice source that audits the rolls of the source it wraps while the game plays.
+ * Every roll adds one to a fixed table counting each pair of consecutive
+ * outcomes, with an extra row for the first roll, so memory use does not
+ * grow with the number of rolls and a roll costs one increment.
+
+ * Every check interval the table is turned into a FairnessReport. Its
+ * columns give the count of each outcome for a chi-square test, its rows
+ * give the pairs for Good's serial test, and the pairs that cross between
+ * a total above 7 and a total of 7 or below give the runs for a
+ * Wald-Wolfowitz runs test. When the smallest p-value first drops below
+ * the alert level the alert is called with the report, and it is called
+ * again only after the rolls have looked fair again. The latest report
+ * can be read from any thread.
+
+ * Like the game it rolls for, an auditor must be used by one thread at a time.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public class FairnessAuditor implements DiceSource {
+    /**
+     * The number of rolls between two checks when none is given.
+     */
+    public static final int DEFAULT_CHECK_INTERVAL = 1 << 16;
+
+    /**
+     * The p-value below which the rolls are reported as unfair when no level is given.
+     * It is small because the same rolls are tested again at every check.
+     */
+    public static final double DEFAULT_ALERT_LEVEL = 1e-6;
+
+    private static final int PAIRS = Dice.OUTCOMES * Dice.OUTCOMES;
+
+    /**
+     * The row of the pair table that the first roll is counted in.
+     */
+    private static final int FIRST_ROW = PAIRS;
+
+    private final DiceSource myDice;
+    private final double myAlertLevel;
+    private final Consumer<FairnessReport> myAlert;
+    private final int myCheckInterval;
+    private final long[] myPairs = new long[PAIRS + Dice.OUTCOMES];
+    private int myPreviousRow;
+    private int myUntilCheck;
+    private boolean myAlerted;
+    private volatile FairnessReport myReport;
+
+    /**
+     * Constructs a new FairnessAuditor with the default alert level and check interval.
+     *
+     * @param theDice The source to audit.
+     * @param theAlert The action called with the report when the rolls start to look unfair.
+     */
+    public FairnessAuditor(DiceSource theDice, Consumer<FairnessReport> theAlert) {
+        this(theDice, DEFAULT_ALERT_LEVEL, DEFAULT_CHECK_INTERVAL, theAlert);
+    }
+
+    /**
+     * Constructs a new FairnessAuditor.
+     *
+     * @param theDice The source to audit.
+     * @param theAlertLevel The p-value below which the alert is called.
+     * @param theCheckInterval The number of rolls between two checks.
+     * @param theAlert The action called with the report when the rolls start to look unfair.
+     * @throws IllegalArgumentException If the level is not between 0 and 1 or the interval is not positive.
+     */
+    public FairnessAuditor(DiceSource theDice, double theAlertLevel, int theCheckInterval,
+                           Consumer<FairnessReport> theAlert) {
+        if (!(theAlertLevel > 0 && theAlertLevel < 1) || theCheckInterval <= 0) {
+            throw new IllegalArgumentException("ONLY POSITIVE NUMBERS");
+        }
+        myDice = theDice;
+        myAlertLevel = theAlertLevel;
+        myCheckInterval = theCheckInterval;
+        myAlert = theAlert;
+        myUntilCheck = theCheckInterval;
+        myPreviousRow = FIRST_ROW;
+    }
+
+    /**
+     * Rolls with the wrapped source and counts the roll as the second half
+     * of a pair with the roll before it.
+     *
+     * @return The outcome of the roll, 0 to 35.
+     */
+    @Override
+    public int nextRoll() {
+        final int roll = myDice.nextRoll();
+        myPairs[myPreviousRow + roll]++;
+        myPreviousRow = roll * Dice.OUTCOMES;
+        if (--myUntilCheck == 0) {
+            myUntilCheck = myCheckInterval;
+            check();
+        }
+        return roll;
+    }
+
+    /**
+     * Tests the rolls so far, keeps the report and calls the alert if the
+     * rolls have just started to look unfair.
+     *
+     * @return The report.
+     */
+    public FairnessReport check() {
+        final FairnessReport report = test();
+        myReport = report;
+        final boolean unfair = report.getMinPValue() < myAlertLevel;
+        if (unfair && !myAlerted) {
+            myAlert.accept(report);
+        }
+        myAlerted = unfair;
+        return report;
+    }
+
+    /**
+     * Gets the report of the latest check. Safe to call from any thread.
+     *
+     * @return The latest report, or null before the first check.
+     */
+    public FairnessReport getReport() {
+        return myReport;
+    }
+
+    /**
+     * Runs the three tests over the pair table.
+     *
+     * @return The report.
+     */
+    private FairnessReport test() {
+        final long[] counts = new long[Dice.OUTCOMES];
+        final long[] pairs = new long[PAIRS];
+        long transitions = 0;
+        long high = 0;
+        for (int first = 0; first <= Dice.OUTCOMES; first++) {
+            for (int second = 0; second < Dice.OUTCOMES; second++) {
+                final long count = myPairs[first * Dice.OUTCOMES + second];
+                counts[second] += count;
+                if (first < Dice.OUTCOMES) {
+                    pairs[first * Dice.OUTCOMES + second] = count;
+                    if (isHigh(first) != isHigh(second)) {
+                        transitions += count;
+                    }
+                }
+            }
+        }
+        long rolls = 0;
+        for (int outcome = 0; outcome < Dice.OUTCOMES; outcome++) {
+            rolls += counts[outcome];
+            if (isHigh(outcome)) {
+                high += counts[outcome];
+            }
+        }
+
+        final double uniformity = chiSquare(counts, rolls);
+        final double uniformityP = chiSquarePValue(uniformity, Dice.OUTCOMES - 1);
+
+        // Good's serial test: the pair chi-square minus the single chi-square
+        // is chi-square with 36^2 - 36 degrees of freedom. It needs about
+        // five pairs per cell to be trusted.
+        double serial = 0;
+        double serialP = 1;
+        if (rolls - 1 >= 5L * PAIRS) {
+            serial = chiSquare(pairs, rolls - 1) - uniformity;
+            serialP = chiSquarePValue(serial, PAIRS - Dice.OUTCOMES);
+        }
+
+        double runsZ = 0;
+        double runsP = 1;
+        final long low = rolls - high;
+        if (low > 0 && high > 0) {
+            final double mean = 2.0 * low * high / rolls + 1;
+            final double variance = (mean - 1) * (mean - 2) / (rolls - 1);
+            if (variance > 0) {
+                runsZ = (transitions + 1 - mean) / Math.sqrt(variance);
+                runsP = normalPValue(runsZ);
+            }
+        }
+        return new FairnessReport(rolls, uniformity, uniformityP, serial, serialP, runsZ, runsP);
+    }
+
+    /**
+     * Checks which side of the runs test an outcome is on.
+     *
+     * @param theOutcome The outcome, 0 to 35.
+     * @return true if the total is above 7, false if it is 7 or below.
+     */
+    private static boolean isHigh(int theOutcome) {
+        return Dice.total(theOutcome) > 7;
+    }
+
+    /**
+     * Computes Pearson's chi-square statistic of cells that should all be equally likely.
+     *
+     * @param theCounts The count of each cell.
+     * @param theTotal The sum of the counts.
+     * @return The chi-square statistic, or 0 if there are no counts.
+     */
+    static double chiSquare(long[] theCounts, long theTotal) {
+        if (theTotal <= 0) {
+            return 0;
+        }
+        final double expected = (double) theTotal / theCounts.length;
+        double sum = 0;
+        for (long count : theCounts) {
+            final double difference = count - expected;
+            sum += difference * difference;
+        }
+        return sum / expected;
+    }
+
+    /**
+     * Computes the chance of a chi-square statistic at least as large as the given one.
+     *
+     * @param theStatistic The chi-square statistic.
+     * @param theDegrees The degrees of freedom.
+     * @return The upper tail probability, 0 to 1.
+     */
+    static double chiSquarePValue(double theStatistic, int theDegrees) {
+        if (theStatistic <= 0) {
+            return 1;
+        }
+        return upperGamma(theDegrees / 2.0, theStatistic / 2);
+    }
+
+    /**
+     * Computes the two-sided tail probability of a standard normal z-score.
+     *
+     * @param theZ The z-score.
+     * @return The chance of a z-score at least as far from 0, 0 to 1.
+     */
+    static double normalPValue(double theZ) {
+        return upperGamma(0.5, theZ * theZ / 2);
+    }
+
+    /**
+     * Computes the regularized upper incomplete gamma function Q(a, x), with a
+     * series below a + 1 and a continued fraction above it.
+     *
+     * @param theA The shape, above 0.
+     * @param theX The point, 0 or more.
+     * @return Q(a, x), 0 to 1.
+     */
+    private static double upperGamma(double theA, double theX) {
+        if (theX <= 0) {
+            return 1;
+        }
+        final double logPrefix = theA * Math.log(theX) - theX - logGamma(theA);
+        if (theX < theA + 1) {
+            double term = 1 / theA;
+            double sum = term;
+            for (int n = 1; n < 10_000 && Math.abs(term) > Math.abs(sum) * 1e-15; n++) {
+                term *= theX / (theA + n);
+                sum += term;
+            }
+            return Math.max(0, 1 - sum * Math.exp(logPrefix));
+        }
+        // Lentz's method for the continued fraction.
+        final double tiny = 1e-300;
+        double b = theX + 1 - theA;
+        double c = 1 / tiny;
+        double d = 1 / b;
+        double h = d;
+        for (int n = 1; n < 10_000; n++) {
+            final double an = -n * (n - theA);
+            b += 2;
+            d = an * d + b;
+            d = Math.abs(d) < tiny ? tiny : d;
+            c = b + an / c;
+            c = Math.abs(c) < tiny ? tiny : c;
+            d = 1 / d;
+            final double delta = d * c;
+            h *= delta;
+            if (Math.abs(delta - 1) < 1e-15) {
+                break;
+            }
+        }
+        return Math.min(1, Math.exp(logPrefix) * h);
+    }
+
+    /**
+     * Computes the natural logarithm of the gamma function with the Lanczos approximation.
+     *
+     * @param theX The argument, above 0.
+     * @return ln(Gamma(x)).
+     */
+    private static double logGamma(double theX) {
+        final double[] coefficients = {76.18009172947146, -86.50532032941677, 24.01409824083091,
+                -1.231739572450155, 0.1208650973866179e-2, -0.5395239384953e-5};
+        double y = theX;
+        final double t = theX + 5.5 - (theX + 0.5) * Math.log(theX + 5.5);
+        double series = 1.000000000190015;
+        for (double coefficient : coefficients) {
+            series += coefficient / ++y;
+        }
+        return -t + Math.log(2.5066282746310005 * series / theX);
+    }
+}
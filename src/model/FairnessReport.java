@@ -0,0 +1,122 @@
+package model;
+
+/**
+ * This class holds the results of the fairness tests over every roll a
+ * FairnessAuditor has seen. Each test gives a statistic and a p-value,
+ * the chance a fair pair of dice would give a statistic at least that
+ * extreme, so a tiny p-value is evidence that the rolls are not fair.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public final class FairnessReport {
+    private final long myRolls;
+    private final double myUniformity;
+    private final double myUniformityPValue;
+    private final double mySerial;
+    private final double mySerialPValue;
+    private final double myRunsZ;
+    private final double myRunsPValue;
+
+    /**
+     * Constructs a new FairnessReport.
+     *
+     * @param theRolls The number of rolls tested.
+     * @param theUniformity The chi-square statistic over the 36 outcomes.
+     * @param theUniformityPValue The p-value of the uniformity test.
+     * @param theSerial The serial statistic over pairs of consecutive outcomes.
+     * @param theSerialPValue The p-value of the serial test, or 1 if there are too few rolls to run it.
+     * @param theRunsZ The z-score of the number of runs of totals above 7 and of 7 or below.
+     * @param theRunsPValue The two-sided p-value of the runs test.
+     */
+    public FairnessReport(long theRolls, double theUniformity, double theUniformityPValue,
+                          double theSerial, double theSerialPValue, double theRunsZ, double theRunsPValue) {
+        myRolls = theRolls;
+        myUniformity = theUniformity;
+        myUniformityPValue = theUniformityPValue;
+        mySerial = theSerial;
+        mySerialPValue = theSerialPValue;
+        myRunsZ = theRunsZ;
+        myRunsPValue = theRunsPValue;
+    }
+
+    /**
+     * Gets the number of rolls tested.
+     *
+     * @return The number of rolls.
+     */
+    public long getRolls() {
+        return myRolls;
+    }
+
+    /**
+     * Gets the chi-square statistic of the 36 outcome counts, with 35 degrees of freedom.
+     *
+     * @return The uniformity statistic.
+     */
+    public double getUniformity() {
+        return myUniformity;
+    }
+
+    /**
+     * Gets the p-value of the uniformity test.
+     *
+     * @return The p-value, 0 to 1.
+     */
+    public double getUniformityPValue() {
+        return myUniformityPValue;
+    }
+
+    /**
+     * Gets the serial statistic: the chi-square of the counts of consecutive
+     * outcome pairs minus the chi-square of the outcome counts, with 1260
+     * degrees of freedom.
+     *
+     * @return The serial statistic.
+     */
+    public double getSerial() {
+        return mySerial;
+    }
+
+    /**
+     * Gets the p-value of the serial test.
+     *
+     * @return The p-value, 0 to 1.
+     */
+    public double getSerialPValue() {
+        return mySerialPValue;
+    }
+
+    /**
+     * Gets the z-score of the number of runs of totals above 7 and of 7 or below.
+     *
+     * @return The runs z-score; negative if the rolls clump, positive if they alternate.
+     */
+    public double getRunsZ() {
+        return myRunsZ;
+    }
+
+    /**
+     * Gets the p-value of the runs test.
+     *
+     * @return The p-value, 0 to 1.
+     */
+    public double getRunsPValue() {
+        return myRunsPValue;
+    }
+
+    /**
+     * Gets the smallest p-value of the three tests.
+     *
+     * @return The smallest p-value.
+     */
+    public double getMinPValue() {
+        return Math.min(myUniformityPValue, Math.min(mySerialPValue, myRunsPValue));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("rolls=%d uniformity=%.1f (p=%.4g) serial=%.1f (p=%.4g) runs z=%.3f (p=%.4g)",
+                myRolls, myUniformity, myUniformityPValue, mySerial, mySerialPValue, myRunsZ, myRunsPValue);
+    }
+}
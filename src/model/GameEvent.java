@@ -0,0 +1,41 @@
+package model;
+
+/**
+ * The kinds of change a GameLogic reports to its listeners.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public enum GameEvent {
+    /**
+     * The dice were rolled. Sent for every roll, before any outcome of the roll.
+     */
+    ROLLED,
+
+    /**
+     * The come-out roll set the point.
+     */
+    POINT_ESTABLISHED,
+
+    /**
+     * The player won the round and the bet was paid.
+     */
+    ROUND_WON,
+
+    /**
+     * The house won the round and the bet was lost.
+     */
+    ROUND_LOST,
+
+    /**
+     * A bet was accepted and deducted from the bank, or set directly with setBet.
+     */
+    BET_PLACED,
+
+    /**
+     * The bank balance or bet changed outside a roll: the bank was set or
+     * cleared by a reset, a bet was settled with winBet or loseBet, or a
+     * new game cleared the bet.
+     */
+    BANK_CHANGED
+}
@@ -0,0 +1,21 @@
+package model;
+
+/**
+ * Receives the changes of a GameLogic, each with a snapshot of the game right after it.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public interface GameListener {
+
+    /**
+     * Called after the game changes.
+     * Listeners added directly are called on the thread that plays the
+     * table, before the method that made the change returns, so they
+     * should be quick. Wrap slow listeners in an AsyncGameListener.
+     *
+     * @param theEvent The kind of change.
+     * @param theState The state of the game after the change.
+     */
+    void gameChanged(GameEvent theEvent, RollResult theState);
+}
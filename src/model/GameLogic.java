@@ -1,16 +1,30 @@
 package model;
 
+import java.util.Arrays;
 import java.util.Random;
 
 /**
  * This class represents the logic for the game of craps.
  * It includes methods for rolling dice, updating bets, and managing
- * game states.
+ * game states. Listeners can subscribe to every change instead of
+ * polling the getters after each roll.
+
+ * A table can be constructed to keep its bank in a shared BankLedger
+ * account instead of its own fields. Every bet, settlement and bank change is then one
+ * atomic update of the account, so other threads can read or deposit
+ * into it, and the table's bank and bet are refreshed from the account
+ * after each change the table makes.
+
+ * A bet is only taken if the bank could hold its winnings, so a win is
+ * always paid in full. If setBet or a ledger deposit gets around that, a
+ * roll refuses to start instead of deciding a round it could not pay.
  *
  * @author cynlopez
  * @version Fall 2023
  */
 public class GameLogic {
+    private static final GameListener[] NO_LISTENERS = {};
+
     private int myTotal;
     private int myPoint;
     private int myDieOne;
@@ -18,77 +32,235 @@ public class GameLogic {
     private int myPlayerScore;
     private int myHouseScore;
     private boolean myScoreGained;
-    private final Random myRoller;
+    private final DiceSource myDice;
     private boolean myHasRolled;
     private int myBankBalance;
     private int myBetAmount;
+    private GameListener[] myListeners;
+    private BankLedger myLedger;
+    private int myAccount;
 
     /**
      * Constructs a new instance of the GameLogic class.
-     * Initializes game state variables and the random number generator.
+     * Initializes game state variables and rolls each die with its own
+     * draw from a new random number generator.
      */
     public GameLogic() {
+        this(new RandomDiceSource(new Random()));
+    }
+
+    /**
+     * Constructs a new instance of the GameLogic class that rolls a reproducible
+     * sequence, starting at the given roll number.
+     *
+     * @param theSeed The seed of the dice sequence.
+     * @param theStartRoll The number of the first roll in the sequence.
+     */
+    public GameLogic(long theSeed, long theStartRoll) {
+        this(new CounterDiceSource(theSeed, theStartRoll));
+    }
+
+    /**
+     * Constructs a new instance of the GameLogic class that rolls with the given dice source.
+     *
+     * @param theDice The source of dice rolls.
+     */
+    public GameLogic(DiceSource theDice) {
         myPoint = 0;
         myTotal = 0;
         myPlayerScore = 0;
         myHouseScore = 0;
         myDieOne = 0;
         myDieTwo = 0;
-        myRoller = new Random();
+        myDice = theDice;
         myHasRolled = false;
         myScoreGained = false;
         myBankBalance = 0;
         myBetAmount = 0;
+        myListeners = NO_LISTENERS;
+    }
+
+    /**
+     * Constructs a new instance of the GameLogic class that keeps its bank and
+     * bet in a ledger account, starting with whatever the account holds.
+     *
+     * @param theDice The source of dice rolls.
+     * @param theLedger The ledger.
+     * @param theAccount The table's account number in the ledger.
+     * @throws IndexOutOfBoundsException If the account is not in the ledger.
+     * @throws ArithmeticException If the account holds more than a table's bank can.
+     */
+    public GameLogic(DiceSource theDice, BankLedger theLedger, int theAccount) {
+        this(theDice);
+        myLedger = theLedger;
+        myAccount = theAccount;
+        syncLedger();
+    }
+
+    /**
+     * Refreshes the bank and bet from the ledger account.
+     *
+     * @throws ArithmeticException If the account holds more than a table's bank can.
+     */
+    private void syncLedger() {
+        myBankBalance = Math.toIntExact(myLedger.getBankBalance(myAccount));
+        myBetAmount = Math.toIntExact(myLedger.getBet(myAccount));
+    }
+
+    /**
+     * Adds a listener that is told about every roll, round outcome, bet and bank change.
+     * Listeners are called on the thread that plays the table; to receive
+     * changes on another thread, add an AsyncGameListener.
+     *
+     * @param theListener The listener to add.
+     */
+    public void addGameListener(GameListener theListener) {
+        final GameListener[] listeners = Arrays.copyOf(myListeners, myListeners.length + 1);
+        listeners[listeners.length - 1] = theListener;
+        myListeners = listeners;
+    }
+
+    /**
+     * Removes a listener added with addGameListener.
+     *
+     * @param theListener The listener to remove.
+     */
+    public void removeGameListener(GameListener theListener) {
+        for (int i = 0; i < myListeners.length; i++) {
+            if (myListeners[i] == theListener) {
+                final GameListener[] listeners = new GameListener[myListeners.length - 1];
+                System.arraycopy(myListeners, 0, listeners, 0, i);
+                System.arraycopy(myListeners, i + 1, listeners, i, listeners.length - i);
+                myListeners = listeners;
+                return;
+            }
+        }
     }
 
     /**
      * Rolls two six-sided dice and calculates the total.
      */
     public void rollDice() {
-        myDieOne = myRoller.nextInt(6) + 1;
-        myDieTwo = myRoller.nextInt(6) + 1;
-        myTotal = myDieOne + myDieTwo;
+        rollBothDice();
+    }
+
+    /**
+     * Rolls both dice without deciding anything.
+     */
+    private void rollBothDice() {
+        final int roll = myDice.nextRoll();
+        myDieOne = Dice.dieOne(roll);
+        myDieTwo = Dice.dieTwo(roll);
+        myTotal = Dice.total(roll);
     }
 
     /**
      * Handles the logic for the first roll of the dice, determining the game outcome.
      * Updates player and house scores accordingly.
+     *
+     * @throws ArithmeticException If a win could not be paid, in which case nothing changes.
      */
     public void firstRoll() {
-        rollDice();
+        comeOutRoll();
+    }
+
+    /**
+     * Makes a come-out roll and decides the round or sets the point.
+     */
+    private void comeOutRoll() {
+        checkWinnings();
+        rollBothDice();
 
         if (myTotal == 7 || myTotal == 11) {
             myPlayerScore++;
             myScoreGained = true;
-            winBet();
+            payWinnings();
+            fireRoll(GameEvent.ROUND_WON);
 
         } else if (myTotal == 2 || myTotal == 3 || myTotal == 12) {
             myHouseScore++;
             myScoreGained = true;
-            loseBet();
+            forfeitBet();
+            fireRoll(GameEvent.ROUND_LOST);
 
         } else {
             myHasRolled = true;
             myPoint = myTotal;
+            fireRoll(GameEvent.POINT_ESTABLISHED);
         }
     }
 
     /**
      * Handles additional rolls after the first one, determining the game outcome.
      * Updates player and house scores accordingly.
+     *
+     * @throws ArithmeticException If a win could not be paid, in which case nothing changes.
      */
     public void additionalRolls() {
-        rollDice();
+        pointRoll();
+    }
+
+    /**
+     * Makes a roll after the point is set and decides the round if it hits the point or a 7.
+     */
+    private void pointRoll() {
+        checkWinnings();
+        rollBothDice();
 
         if (myPoint == myTotal) {
             myPlayerScore++;
             myScoreGained = true;
-            winBet();
+            payWinnings();
+            fireRoll(GameEvent.ROUND_WON);
 
         } else if (myTotal == 7) {
             myHouseScore++;
             myScoreGained = true;
-            loseBet();
+            forfeitBet();
+            fireRoll(GameEvent.ROUND_LOST);
+
+        } else {
+            fireRoll(null);
+        }
+    }
+
+    /**
+     * Tells the listeners about a roll and its outcome, sharing one snapshot.
+     * Nothing is allocated when there are no listeners.
+     *
+     * @param theOutcome The outcome of the roll, or null if it changed nothing else.
+     */
+    private void fireRoll(GameEvent theOutcome) {
+        if (myListeners.length == 0) {
+            return;
+        }
+        final RollResult state = getSnapshot();
+        fire(GameEvent.ROLLED, state);
+        if (theOutcome != null) {
+            fire(theOutcome, state);
+        }
+    }
+
+    /**
+     * Tells the listeners about a change that is not a roll.
+     *
+     * @param theEvent The kind of change.
+     */
+    private void fireChange(GameEvent theEvent) {
+        if (myListeners.length != 0) {
+            fire(theEvent, getSnapshot());
+        }
+    }
+
+    /**
+     * Calls every listener with one change.
+     *
+     * @param theEvent The kind of change.
+     * @param theState The state of the game after the change.
+     */
+    private void fire(GameEvent theEvent, RollResult theState) {
+        for (GameListener listener : myListeners) {
+            listener.gameChanged(theEvent, theState);
         }
     }
 
@@ -98,40 +270,107 @@ public class GameLogic {
      */
     private void genericRoll() {
         if (myHasRolled) {
-            additionalRolls();
+            pointRoll();
 
         } else {
-            firstRoll();
+            comeOutRoll();
         }
     }
 
     /**
      * Updates bank account with bet winnings.
+     *
+     * @throws ArithmeticException If the winnings would overflow the bank balance,
+     * in which case nothing changes.
      */
     public void winBet() {
-        int winningBet = getBet() * 2;
-        setBankBalance(getBankBalance() + winningBet);
-        setBet(0);
+        payWinnings();
+        fireChange(GameEvent.BANK_CHANGED);
+    }
+
+    /**
+     * Pays twice the bet into the bank and clears the bet.
+     *
+     * @throws ArithmeticException If the winnings would overflow the bank balance.
+     */
+    private void payWinnings() {
+        checkWinnings();
+        if (myLedger != null) {
+            myLedger.settleBet(myAccount, true);
+            syncLedger();
+            return;
+        }
+        myBankBalance += 2 * myBetAmount;
+        myBetAmount = 0;
+    }
+
+    /**
+     * Checks that the bank could hold the winnings of the open bet.
+     * With a ledger, the account is read as it is now, so money another
+     * thread deposits before the bet is settled can still overflow it.
+     *
+     * @throws ArithmeticException If the winnings would overflow the bank balance.
+     */
+    private void checkWinnings() {
+        final boolean payable = myLedger != null
+                ? canPay(myLedger.getBankBalance(myAccount), myLedger.getBet(myAccount))
+                : canPay(myBankBalance, myBetAmount);
+        if (!payable) {
+            throw new ArithmeticException("integer overflow");
+        }
+    }
+
+    /**
+     * Checks if a bank balance could hold the winnings of a bet, twice the bet.
+     *
+     * @param theBankBalance The bank balance, not counting the bet.
+     * @param theBet The bet.
+     * @return true if the bank balance after a win fits in an int.
+     */
+    private static boolean canPay(long theBankBalance, long theBet) {
+        return theBankBalance <= Integer.MAX_VALUE && theBet <= (Integer.MAX_VALUE - theBankBalance) / 2;
     }
 
     /**
      * Updates bank account with bet losings.
      */
     public void loseBet() {
-        setBankBalance(getBankBalance());
-        setBet(0);
+        forfeitBet();
+        fireChange(GameEvent.BANK_CHANGED);
+    }
+
+    /**
+     * Clears the bet without paying anything.
+     */
+    private void forfeitBet() {
+        if (myLedger != null) {
+            myLedger.settleBet(myAccount, false);
+            syncLedger();
+            return;
+        }
+        myBetAmount = 0;
     }
 
     /**
      * Updates the current bet amount and deducts it from the player's bank balance.
+     * Bets that are not positive, are more than the bank balance or have
+     * winnings the bank could not hold are ignored.
      *
      * @param theBet The amount to be added to the current bet.
-     * @throws IllegalArgumentException If the bet amount is non-positive.
      */
     public void updateBet(int theBet) {
-        if (theBet > 0 && myBetAmount <= myBankBalance) {
-            setBet(getBet() + theBet);
-            setBankBalance(getBankBalance() - theBet);
+        if (!canPay((long) myBankBalance - theBet, (long) myBetAmount + theBet)) {
+            return;
+        }
+        if (myLedger != null) {
+            if (myLedger.updateBet(myAccount, theBet)) {
+                syncLedger();
+                fireChange(GameEvent.BET_PLACED);
+            }
+        } else if (theBet > 0 && theBet <= myBankBalance) {
+            myBetAmount += theBet;
+            myBankBalance -= theBet;
+            fireChange(GameEvent.BET_PLACED);
         }
     }
 
@@ -149,6 +388,11 @@ public class GameLogic {
         myBankBalance = 0;
         myScoreGained = false;
         myHasRolled = false;
+        if (myLedger != null) {
+            myLedger.settleBet(myAccount, false);
+            myLedger.setBankBalance(myAccount, 0);
+        }
+        fireChange(GameEvent.BANK_CHANGED);
     }
 
     /**
@@ -164,17 +408,26 @@ public class GameLogic {
         myScoreGained = false;
         myBankBalance = getBankBalance();
         myBetAmount = 0;
+        if (myLedger != null) {
+            myLedger.settleBet(myAccount, false);
+        }
+        fireChange(GameEvent.BANK_CHANGED);
     }
 
     /**
      * Sets the player's bank balance.
      *
      * @param theAmount The amount to set as the bank balance.
-     * @throws NumberFormatException If the specified amount is negative.
+     * @throws NumberFormatException If the specified amount is negative or
+     * too large to hold the winnings of the open bet.
      */
     public void setBankBalance(int theAmount){
-        if (theAmount >= 0) {
+        if (theAmount >= 0 && canPay(theAmount, myBetAmount)) {
             myBankBalance = theAmount;
+            if (myLedger != null) {
+                myLedger.setBankBalance(myAccount, theAmount);
+            }
+            fireChange(GameEvent.BANK_CHANGED);
         } else {
             throw new NumberFormatException("ONLY POSITIVE NUMBERS");
         }
@@ -196,6 +449,12 @@ public class GameLogic {
      */
     public void setBet(int theBet) {
         this.myBetAmount = theBet;
+        if (myLedger != null) {
+            myLedger.settleBet(myAccount, false);
+            myLedger.deposit(myAccount, theBet);
+            myLedger.updateBet(myAccount, theBet);
+        }
+        fireChange(GameEvent.BET_PLACED);
     }
 
     /**
@@ -280,10 +539,82 @@ public class GameLogic {
         return myBankBalance;
     }
 
+    /**
+     * Checks if the come-out roll has set a point in the current round.
+     *
+     * @return true if the next roll is an additional roll, false otherwise.
+     */
+    boolean getHasRolled() {
+        return myHasRolled;
+    }
+
+    /**
+     * Restores every game state variable at once, such as from a snapshot.
+     *
+     * @param thePoint The point value.
+     * @param theDieOne The value of the first die.
+     * @param theDieTwo The value of the second die.
+     * @param thePlayerScore The number of wins by the player.
+     * @param theHouseScore The number of wins by the house.
+     * @param theHasRolled Whether the come-out roll has set a point.
+     * @param theScoreGained Whether the last roll decided the round.
+     * @param theBankBalance The bank balance.
+     * @param theBetAmount The current bet amount.
+     */
+    void restoreState(int thePoint, int theDieOne, int theDieTwo, int thePlayerScore, int theHouseScore,
+                      boolean theHasRolled, boolean theScoreGained, int theBankBalance, int theBetAmount) {
+        myPoint = thePoint;
+        myDieOne = theDieOne;
+        myDieTwo = theDieTwo;
+        myTotal = theDieOne + theDieTwo;
+        myPlayerScore = thePlayerScore;
+        myHouseScore = theHouseScore;
+        myHasRolled = theHasRolled;
+        myScoreGained = theScoreGained;
+        myBankBalance = theBankBalance;
+        myBetAmount = theBetAmount;
+        if (myLedger != null) {
+            myLedger.settleBet(myAccount, false);
+            myLedger.setBankBalance(myAccount, (long) theBankBalance + theBetAmount);
+            myLedger.updateBet(myAccount, theBetAmount);
+        }
+    }
+
+    /**
+     * Gets the source this game rolls its dice with.
+     *
+     * @return The dice source.
+     */
+    DiceSource getDiceSource() {
+        return myDice;
+    }
+
     /**
      * Initiates a generic roll based on the current game state.
+     *
+     * @throws ArithmeticException If a win could not be paid, in which case nothing changes.
      */
     public void getGenericRoll() {
        genericRoll();
     }
+
+    /**
+     * Makes a generic roll and returns the resulting state.
+     *
+     * @return A snapshot of the game right after the roll.
+     */
+    public RollResult roll() {
+        getGenericRoll();
+        return getSnapshot();
+    }
+
+    /**
+     * Takes a snapshot of the current game state.
+     *
+     * @return A snapshot of the dice, point, scores, bet and bank.
+     */
+    public RollResult getSnapshot() {
+        return new RollResult(myDieOne, myDieTwo, myTotal, myPoint, myScoreGained,
+                myPlayerScore, myHouseScore, myBetAmount, myBankBalance);
+    }
 }
@@ -0,0 +1,205 @@
+package model;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * This class reads a journal written by RollJournal and replays it.
+ * Replaying feeds every recorded roll back through GameLogic, so the
+ * scores, point, bet and bank of each table are rebuilt by the same
+ * code that produced them.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public class JournalReader implements Closeable {
+    private static final int CHUNK_SIZE = 1 << 26;
+
+    private final FileChannel myChannel;
+    private final long myEndPosition;
+    private final long myLastSequence;
+
+    /**
+     * Opens a journal and finds its last record.
+     *
+     * @param theChannel An open channel on the journal file.
+     * @throws IOException If the file cannot be read or is not a journal.
+     */
+    JournalReader(FileChannel theChannel) throws IOException {
+        myChannel = theChannel;
+        final long[] end = {0, 0};
+        if (myChannel.size() > 0) {
+            readHeader();
+            end[0] = RollJournal.RECORD_SIZE;
+            scan(0, (region, position) -> {
+                end[0] = position + RollJournal.RECORD_SIZE;
+                end[1] = region.getLong((int) (position % CHUNK_SIZE) + RollJournal.SEQUENCE_OFFSET);
+            });
+        }
+        myEndPosition = end[0];
+        myLastSequence = end[1];
+    }
+
+    /**
+     * Opens a journal file for reading.
+     *
+     * @param thePath The journal file.
+     * @throws IOException If the file cannot be read or is not a journal.
+     */
+    public JournalReader(Path thePath) throws IOException {
+        this(FileChannel.open(thePath, StandardOpenOption.READ));
+    }
+
+    /**
+     * Gets the sequence number of the last record in the journal.
+     *
+     * @return The last sequence number, or 0 if the journal is empty.
+     */
+    public long getLastSequence() {
+        return myLastSequence;
+    }
+
+    /**
+     * Gets the file position just past the last record.
+     *
+     * @return The end position in bytes.
+     */
+    long getEndPosition() {
+        return myEndPosition;
+    }
+
+    /**
+     * Replays every record into new tables, one GameLogic per table id.
+     *
+     * @return The rebuilt tables by table id.
+     * @throws IOException If the file cannot be read.
+     */
+    public Map<Integer, GameLogic> replay() throws IOException {
+        final Map<Integer, GameLogic> tables = new HashMap<>();
+        replay(tables, 0);
+        return tables;
+    }
+
+    /**
+     * Replays the records after a sequence number into existing tables.
+     * Tables missing from the map are created. Tables created here, and any
+     * table that rolls with a ReplayDiceSource, roll the recorded dice.
+     *
+     * @param theTables The tables by table id, updated in place.
+     * @param theAfterSequence Only records with a larger sequence number are replayed.
+     * @throws IOException If the file cannot be read.
+     * @throws IllegalStateException If a roll is replayed into a table that
+     * does not roll with a ReplayDiceSource.
+     */
+    public void replay(Map<Integer, GameLogic> theTables, long theAfterSequence) throws IOException {
+        scan(0, (region, position) -> {
+            final int offset = (int) (position % CHUNK_SIZE);
+            if (region.getLong(offset + RollJournal.SEQUENCE_OFFSET) <= theAfterSequence) {
+                return;
+            }
+            final GameLogic table = theTables.computeIfAbsent(
+                    region.getInt(offset + RollJournal.TABLE_OFFSET),
+                    id -> new GameLogic(new ReplayDiceSource(new RandomDiceSource(new Random()))));
+            apply(table, region, offset);
+        });
+    }
+
+    /**
+     * Applies one record to a table.
+     *
+     * @param theTable The table.
+     * @param theRegion The mapped region holding the record.
+     * @param theOffset The offset of the record in the region.
+     */
+    private static void apply(GameLogic theTable, MappedByteBuffer theRegion, int theOffset) {
+        final int amount = theRegion.getInt(theOffset + RollJournal.AMOUNT_OFFSET);
+        final byte kind = theRegion.get(theOffset + RollJournal.KIND_OFFSET);
+        switch (kind) {
+            case RollJournal.ROLL, RollJournal.FIRST_ROLL, RollJournal.ADDITIONAL_ROLL, RollJournal.ROLL_DICE -> {
+                if (!(theTable.getDiceSource() instanceof ReplayDiceSource replaySource)) {
+                    throw new IllegalStateException("TABLE CANNOT REPLAY ROLLS");
+                }
+                replaySource.replay(Dice.outcome(theRegion.get(theOffset + RollJournal.DIE_ONE_OFFSET),
+                        theRegion.get(theOffset + RollJournal.DIE_TWO_OFFSET)));
+                switch (kind) {
+                    case RollJournal.FIRST_ROLL -> theTable.firstRoll();
+                    case RollJournal.ADDITIONAL_ROLL -> theTable.additionalRolls();
+                    case RollJournal.ROLL_DICE -> theTable.rollDice();
+                    default -> theTable.getGenericRoll();
+                }
+            }
+            case RollJournal.BET -> theTable.updateBet(amount);
+            case RollJournal.BANK -> theTable.setBankBalance(amount);
+            case RollJournal.NEW_GAME -> theTable.startNewGame();
+            case RollJournal.RESET -> theTable.resetGame();
+            case RollJournal.SET_BET -> theTable.setBet(amount);
+            case RollJournal.SET_PLAYER_WINS -> theTable.setPlayerWins(amount);
+            case RollJournal.WIN_BET -> theTable.winBet();
+            case RollJournal.LOSE_BET -> theTable.loseBet();
+            default -> throw new IllegalStateException("UNKNOWN RECORD KIND");
+        }
+    }
+
+    private void readHeader() throws IOException {
+        final MappedByteBuffer header = myChannel.map(FileChannel.MapMode.READ_ONLY, 0, RollJournal.RECORD_SIZE);
+        header.order(ByteOrder.LITTLE_ENDIAN);
+        if (header.getInt(0) != RollJournal.MAGIC || header.getInt(4) != RollJournal.RECORD_SIZE) {
+            throw new IOException("Not a roll journal");
+        }
+    }
+
+    /**
+     * Visits every record from a file position until the end marker.
+     *
+     * @param theStart The file position to start from, a multiple of the chunk size.
+     * @param theVisitor The visitor called for each record.
+     * @throws IOException If the file cannot be read.
+     */
+    private void scan(long theStart, RecordVisitor theVisitor) throws IOException {
+        final long size = myChannel.size();
+        for (long chunk = theStart; chunk < size; chunk += CHUNK_SIZE) {
+            final MappedByteBuffer region = myChannel.map(FileChannel.MapMode.READ_ONLY, chunk,
+                    Math.min(CHUNK_SIZE, size - chunk));
+            region.order(ByteOrder.LITTLE_ENDIAN);
+            int offset = chunk == 0 ? RollJournal.RECORD_SIZE : 0;
+            for (; offset + RollJournal.RECORD_SIZE <= region.limit(); offset += RollJournal.RECORD_SIZE) {
+                if (region.get(offset + RollJournal.KIND_OFFSET) == 0) {
+                    return;
+                }
+                theVisitor.visit(region, chunk + offset);
+            }
+        }
+    }
+
+    /**
+     * Closes the journal file.
+     *
+     * @throws IOException If the file cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        myChannel.close();
+    }
+
+    /**
+     * Receives the records found by a scan.
+     */
+    private interface RecordVisitor {
+
+        /**
+         * Visits one record.
+         *
+         * @param theRegion The mapped chunk holding the record.
+         * @param thePosition The file position of the record.
+         */
+        void visit(MappedByteBuffer theRegion, long thePosition);
+    }
+}
@@ -0,0 +1,184 @@
+package model;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * A GameLogic that appends every roll and bank change to a RollJournal.
+ * It can be used anywhere a GameLogic is, so a table is audited without
+ * changing the code that drives it. Every public method that changes the
+ * table's state writes its own record, so replaying the journal rebuilds
+ * the table whichever methods drove it.
+
+ * A journaled table always keeps its own bank. There is no constructor
+ * that puts it in a shared BankLedger, because other threads could change
+ * the account without a record.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public class JournaledGameLogic extends GameLogic {
+    private final RollJournal myJournal;
+    private final int myTableId;
+
+    /**
+     * Constructs a new JournaledGameLogic.
+     *
+     * @param theDice The source of dice rolls.
+     * @param theJournal The journal to append to.
+     * @param theTableId The id the table's records are written under.
+     */
+    public JournaledGameLogic(DiceSource theDice, RollJournal theJournal, int theTableId) {
+        super(theDice);
+        myJournal = theJournal;
+        myTableId = theTableId;
+    }
+
+    /**
+     * Rolls like getGenericRoll and journals the roll with its bank change.
+     */
+    @Override
+    public void getGenericRoll() {
+        final int bet = getBet();
+        final int bank = getBankBalance();
+        super.getGenericRoll();
+        append(RollJournal.ROLL, getDieOne(), getDieTwo(), bet, getBankBalance() - bank);
+    }
+
+    /**
+     * Makes a come-out roll like firstRoll and journals the roll with its bank change.
+     */
+    @Override
+    public void firstRoll() {
+        final int bet = getBet();
+        final int bank = getBankBalance();
+        super.firstRoll();
+        append(RollJournal.FIRST_ROLL, getDieOne(), getDieTwo(), bet, getBankBalance() - bank);
+    }
+
+    /**
+     * Rolls like additionalRolls and journals the roll with its bank change.
+     */
+    @Override
+    public void additionalRolls() {
+        final int bet = getBet();
+        final int bank = getBankBalance();
+        super.additionalRolls();
+        append(RollJournal.ADDITIONAL_ROLL, getDieOne(), getDieTwo(), bet, getBankBalance() - bank);
+    }
+
+    /**
+     * Rolls the dice like rollDice and journals the roll.
+     */
+    @Override
+    public void rollDice() {
+        super.rollDice();
+        append(RollJournal.ROLL_DICE, getDieOne(), getDieTwo(), getBet(), 0);
+    }
+
+    /**
+     * Pays out the bet like winBet and journals it.
+     */
+    @Override
+    public void winBet() {
+        final int bet = getBet();
+        final int bank = getBankBalance();
+        super.winBet();
+        append(RollJournal.WIN_BET, 0, 0, bet, getBankBalance() - bank);
+    }
+
+    /**
+     * Forfeits the bet like loseBet and journals it.
+     */
+    @Override
+    public void loseBet() {
+        final int bet = getBet();
+        super.loseBet();
+        append(RollJournal.LOSE_BET, 0, 0, bet, 0);
+    }
+
+    /**
+     * Sets the bet like setBet and journals it.
+     *
+     * @param theBet The amount to set as the current bet.
+     */
+    @Override
+    public void setBet(int theBet) {
+        super.setBet(theBet);
+        append(RollJournal.SET_BET, 0, 0, theBet, 0);
+    }
+
+    /**
+     * Sets the player's wins like setPlayerWins and journals it.
+     *
+     * @param theWins The number of wins to set.
+     */
+    @Override
+    public void setPlayerWins(int theWins) {
+        super.setPlayerWins(theWins);
+        append(RollJournal.SET_PLAYER_WINS, 0, 0, theWins, 0);
+    }
+
+    /**
+     * Updates the bet like updateBet and journals it if it was accepted.
+     *
+     * @param theBet The amount to be added to the current bet.
+     */
+    @Override
+    public void updateBet(int theBet) {
+        final int bank = getBankBalance();
+        super.updateBet(theBet);
+        if (getBankBalance() != bank) {
+            append(RollJournal.BET, 0, 0, theBet, getBankBalance() - bank);
+        }
+    }
+
+    /**
+     * Sets the bank balance like setBankBalance and journals it.
+     *
+     * @param theAmount The amount to set as the bank balance.
+     */
+    @Override
+    public void setBankBalance(int theAmount) {
+        final int bank = getBankBalance();
+        super.setBankBalance(theAmount);
+        append(RollJournal.BANK, 0, 0, theAmount, theAmount - bank);
+    }
+
+    /**
+     * Starts a new game like startNewGame and journals it.
+     */
+    @Override
+    public void startNewGame() {
+        super.startNewGame();
+        append(RollJournal.NEW_GAME, 0, 0, 0, 0);
+    }
+
+    /**
+     * Resets the game like resetGame and journals it.
+     */
+    @Override
+    public void resetGame() {
+        final int bank = getBankBalance();
+        super.resetGame();
+        append(RollJournal.RESET, 0, 0, 0, -bank);
+    }
+
+    /**
+     * Appends one record for this table.
+     *
+     * @param theKind The record kind.
+     * @param theDieOne The first die, or 0.
+     * @param theDieTwo The second die, or 0.
+     * @param theAmount The amount of the record.
+     * @param theBankDelta The change in bank balance.
+     * @throws UncheckedIOException If the journal cannot be written.
+     */
+    private void append(byte theKind, int theDieOne, int theDieTwo, int theAmount, long theBankDelta) {
+        try {
+            myJournal.append(myTableId, theKind, theDieOne, theDieTwo, theAmount, theBankDelta);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package model;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * This class holds the standings of every player in a tournament at one moment.
+ * Players are ranked by bank balance, highest first, with ties going to
+ * the lower player number. The standings are copied out of the shared
+ * standings array, so a leaderboard never changes after it is built even
+ * while the tournament keeps playing.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public final class Leaderboard {
+    private final int[] myPlayers;
+    private final int[] myBankBalances;
+    private final int[] myPlayerWins;
+    private final int[] myRoundsPlayed;
+    private final int myFinished;
+    private final long myElapsedNanos;
+
+    /**
+     * Constructs a new Leaderboard from the packed standings of every player.
+     * Entry 2p holds player p's wins in the high half and bank in the low
+     * half, and entry 2p + 1 holds the rounds played, complemented once
+     * the player's session has finished.
+     *
+     * @param theStandings The standings array.
+     * @param theElapsedNanos The time since the tournament started.
+     */
+    Leaderboard(AtomicLongArray theStandings, long theElapsedNanos) {
+        final int players = theStandings.length() / 2;
+        final long[] keys = new long[players];
+        final int[] wins = new int[players];
+        final int[] rounds = new int[players];
+        int finished = 0;
+        for (int player = 0; player < players; player++) {
+            final long standing = theStandings.get(2 * player);
+            final long played = theStandings.get(2 * player + 1);
+            wins[player] = (int) (standing >>> 32);
+            rounds[player] = (int) (played < 0 ? ~played : played);
+            if (played < 0) {
+                finished++;
+            }
+            // Sorting the complement of the bank ascending ranks the highest bank first,
+            // and the player number in the low half breaks ties.
+            keys[player] = (long) ~(int) standing << 32 | player;
+        }
+        Arrays.sort(keys);
+
+        myPlayers = new int[players];
+        myBankBalances = new int[players];
+        myPlayerWins = new int[players];
+        myRoundsPlayed = new int[players];
+        for (int rank = 0; rank < players; rank++) {
+            final int player = (int) keys[rank];
+            myPlayers[rank] = player;
+            myBankBalances[rank] = ~(int) (keys[rank] >> 32);
+            myPlayerWins[rank] = wins[player];
+            myRoundsPlayed[rank] = rounds[player];
+        }
+        myFinished = finished;
+        myElapsedNanos = theElapsedNanos;
+    }
+
+    /**
+     * Gets the number of players.
+     *
+     * @return The number of players.
+     */
+    public int size() {
+        return myPlayers.length;
+    }
+
+    /**
+     * Gets the player at a rank.
+     *
+     * @param theRank The rank, 0 for the leader.
+     * @return The player number.
+     */
+    public int getPlayer(int theRank) {
+        return myPlayers[theRank];
+    }
+
+    /**
+     * Gets the bank balance of the player at a rank.
+     *
+     * @param theRank The rank, 0 for the leader.
+     * @return The bank balance.
+     */
+    public int getBankBalance(int theRank) {
+        return myBankBalances[theRank];
+    }
+
+    /**
+     * Gets the number of wins of the player at a rank.
+     *
+     * @param theRank The rank, 0 for the leader.
+     * @return The number of player wins.
+     */
+    public int getPlayerWins(int theRank) {
+        return myPlayerWins[theRank];
+    }
+
+    /**
+     * Gets the number of rounds played by the player at a rank.
+     *
+     * @param theRank The rank, 0 for the leader.
+     * @return The number of rounds played.
+     */
+    public int getRoundsPlayed(int theRank) {
+        return myRoundsPlayed[theRank];
+    }
+
+    /**
+     * Gets the number of players whose session has finished.
+     *
+     * @return The number of finished players.
+     */
+    public int getFinished() {
+        return myFinished;
+    }
+
+    /**
+     * Gets the time between the start of the tournament and this leaderboard.
+     *
+     * @return The elapsed time in nanoseconds.
+     */
+    public long getElapsedNanos() {
+        return myElapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder text = new StringBuilder(String.format("elapsed=%.3fs finished=%d/%d",
+                myElapsedNanos / 1e9, myFinished, myPlayers.length));
+        for (int rank = 0; rank < Math.min(3, myPlayers.length); rank++) {
+            text.append(String.format(" #%d player=%d bank=%d wins=%d rounds=%d", rank + 1,
+                    myPlayers[rank], myBankBalances[rank], myPlayerWins[rank], myRoundsPlayed[rank]));
+        }
+        return text.toString();
+    }
+}
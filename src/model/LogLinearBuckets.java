@@ -0,0 +1,61 @@
+package model;
+
+/**
+ * This class maps non-negative longs to the buckets of a log-linear histogram.
+ * Values below twice the number of sub-buckets get a bucket each, and
+ * every larger power of two is split into the given number of equal
+ * sub-buckets, so a bucket's lower edge is within one sub-bucket's share
+ * of any value in it. StreamingStats and LatencyHistogram both bucket
+ * their values this way, each with its own number of sub-buckets.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public final class LogLinearBuckets {
+
+    private LogLinearBuckets() {
+    }
+
+    /**
+     * Gets the number of buckets needed for any value a long can hold.
+     *
+     * @param theSubBucketBits The base-two logarithm of the number of sub-buckets per power of two.
+     * @return The number of buckets.
+     */
+    public static int count(int theSubBucketBits) {
+        return (64 - theSubBucketBits) << theSubBucketBits;
+    }
+
+    /**
+     * Finds the bucket of a value. Larger values keep their top
+     * theSubBucketBits + 1 significant bits.
+     *
+     * @param theValue The value; negative values count as zero.
+     * @param theSubBucketBits The base-two logarithm of the number of sub-buckets per power of two.
+     * @return The bucket index.
+     */
+    public static int bucket(long theValue, int theSubBucketBits) {
+        final int subBuckets = 1 << theSubBucketBits;
+        if (theValue < subBuckets * 2) {
+            return (int) Math.max(0, theValue);
+        }
+        final int shift = 63 - Long.numberOfLeadingZeros(theValue) - theSubBucketBits;
+        return (shift + 1) * subBuckets + (int) (theValue >>> shift) - subBuckets;
+    }
+
+    /**
+     * Finds the smallest value that falls in a bucket.
+     *
+     * @param theBucket The bucket index.
+     * @param theSubBucketBits The base-two logarithm of the number of sub-buckets per power of two.
+     * @return The lower edge of the bucket.
+     */
+    public static long floor(int theBucket, int theSubBucketBits) {
+        final int subBuckets = 1 << theSubBucketBits;
+        if (theBucket < subBuckets * 2) {
+            return theBucket;
+        }
+        final int shift = theBucket / subBuckets - 1;
+        return (long) (theBucket % subBuckets + subBuckets) << shift;
+    }
+}
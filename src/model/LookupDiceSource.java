@@ -0,0 +1,29 @@
+package model;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * A dice source that rolls both dice with a single nextInt(36) call.
+ * The outcome is decoded through the lookup tables in the Dice class,
+ * which halves the number of random draws per roll.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public class LookupDiceSource implements DiceSource {
+    private final RandomGenerator myRoller;
+
+    /**
+     * Constructs a new LookupDiceSource.
+     *
+     * @param theRoller The random number generator to roll with.
+     */
+    public LookupDiceSource(RandomGenerator theRoller) {
+        myRoller = theRoller;
+    }
+
+    @Override
+    public int nextRoll() {
+        return myRoller.nextInt(Dice.OUTCOMES);
+    }
+}
@@ -0,0 +1,209 @@
+package model;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * This class splits a headless simulation across a ForkJoinPool.
+ * Every worker gets its own SplittableRandom stream split from one root
+ * stream, so no random number generator is shared between threads.
+ * The per-worker tallies are merged once all workers finish.
+
+ * The starting bank is split up front along with the rounds, so each
+ * worker plays its slice of rounds against its own share of one bank and
+ * the bet is capped at that share. The merged final bank is the sum of
+ * every share's final balance, so it never drops below zero.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public class ParallelSimulator {
+    private static final long MIN_ROUNDS_PER_TASK = 1 << 16;
+
+    private final int myParallelism;
+    private final long myStartingBank;
+    private final int myBetAmount;
+
+    /**
+     * Constructs a new ParallelSimulator.
+     *
+     * @param theParallelism The number of worker threads.
+     * @param theStartingBank The bank balance shared out between the workers.
+     * @param theBetAmount The flat bet placed on every round.
+     * @throws IllegalArgumentException If the parallelism is not positive
+     * or the bank or bet is negative.
+     */
+    public ParallelSimulator(int theParallelism, long theStartingBank, int theBetAmount) {
+        if (theParallelism <= 0 || theStartingBank < 0 || theBetAmount < 0) {
+            throw new IllegalArgumentException("ONLY POSITIVE NUMBERS");
+        }
+        myParallelism = theParallelism;
+        myStartingBank = theStartingBank;
+        myBetAmount = theBetAmount;
+    }
+
+    /**
+     * Plays the given number of rounds split across the worker threads.
+     *
+     * @param theSeed The seed of the root random number stream.
+     * @param theRounds The total number of rounds to play.
+     * @return The merged tallies of every worker.
+     */
+    public SimulationResult run(long theSeed, long theRounds) {
+        final long slice = Math.max(MIN_ROUNDS_PER_TASK, theRounds / (myParallelism * 4L));
+        final ForkJoinPool pool = new ForkJoinPool(myParallelism);
+        try {
+            final long start = System.nanoTime();
+            final SimulationResult result = pool.invoke(
+                    new SliceTask(new SplittableRandom(theSeed), theRounds, myStartingBank, slice));
+            final long elapsed = System.nanoTime() - start;
+
+            return new SimulationResult(result.getRounds(), result.getPlayerWins(), result.getHouseWins(),
+                    result.getPointsEstablished(), result.getRolls(), myStartingBank,
+                    myStartingBank + result.getBankDelta(), elapsed);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Plays the given number of rounds split across the worker threads so that
+     * the tallies are the same for any number of threads.
+     * Round r rolls from position r * 2^32 of one CounterDiceSource sequence,
+     * so each worker computes its own rounds' rolls directly with a BatchEngine.
+     * Every round is played at the flat bet without capping it at the bank,
+     * because a cap would make each round depend on the rounds before it.
+     * The bank could therefore go below zero, so the result reports only the
+     * net winnings and ignores the starting bank.
+     *
+     * @param theSeed The seed of the dice sequence.
+     * @param theRounds The total number of rounds to play.
+     * @return The merged tallies of every worker, with net winnings instead of a final bank.
+     */
+    public SimulationResult runReproducible(long theSeed, long theRounds) {
+        final long slice = Math.max(MIN_ROUNDS_PER_TASK, theRounds / (myParallelism * 4L));
+        final ForkJoinPool pool = new ForkJoinPool(myParallelism);
+        try {
+            final long start = System.nanoTime();
+            final SimulationResult result = pool.invoke(new RangeTask(theSeed, 0, theRounds, slice));
+            final long elapsed = System.nanoTime() - start;
+
+            return SimulationResult.ofNetWinnings(result.getRounds(), result.getPlayerWins(),
+                    result.getHouseWins(), result.getPointsEstablished(), result.getRolls(),
+                    result.getBankDelta(), elapsed);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Merges the tallies of two workers.
+     * The bank of the merged result is expressed as a delta from zero.
+     *
+     * @param theLeft The first tallies.
+     * @param theRight The second tallies.
+     * @return The combined tallies.
+     */
+    static SimulationResult merge(SimulationResult theLeft, SimulationResult theRight) {
+        return new SimulationResult(
+                theLeft.getRounds() + theRight.getRounds(),
+                theLeft.getPlayerWins() + theRight.getPlayerWins(),
+                theLeft.getHouseWins() + theRight.getHouseWins(),
+                theLeft.getPointsEstablished() + theRight.getPointsEstablished(),
+                theLeft.getRolls() + theRight.getRolls(),
+                0,
+                theLeft.getBankDelta() + theRight.getBankDelta(),
+                Math.max(theLeft.getElapsedNanos(), theRight.getElapsedNanos()));
+    }
+
+    /**
+     * A task that halves its round count and its bank until it is small enough
+     * to play directly, giving the right half a split random stream.
+     */
+    private final class SliceTask extends RecursiveTask<SimulationResult> {
+        private final SplittableRandom myRandom;
+        private final long myRounds;
+        private final long myBank;
+        private final long mySlice;
+
+        /**
+         * Constructs a new SliceTask.
+         *
+         * @param theRandom The random number stream owned by this task.
+         * @param theRounds The number of rounds this task covers.
+         * @param theBank The share of the starting bank this task plays against.
+         * @param theSlice The round count at or below which the task plays directly.
+         */
+        SliceTask(SplittableRandom theRandom, long theRounds, long theBank, long theSlice) {
+            myRandom = theRandom;
+            myRounds = theRounds;
+            myBank = theBank;
+            mySlice = theSlice;
+        }
+
+        @Override
+        protected SimulationResult compute() {
+            if (myRounds <= mySlice) {
+                return new RoundSimulator(myRandom, myBank, myBetAmount).run(myRounds);
+            }
+            final long half = myRounds / 2;
+            final long halfBank = myBank / 2;
+            final SliceTask right = new SliceTask(myRandom.split(), myRounds - half, myBank - halfBank, mySlice);
+            right.fork();
+            final SimulationResult left = new SliceTask(myRandom, half, halfBank, mySlice).compute();
+            return merge(left, right.join());
+        }
+    }
+
+    /**
+     * A task that halves its range of round numbers until it is small enough
+     * to play directly from the counter-based dice sequence.
+     */
+    private final class RangeTask extends RecursiveTask<SimulationResult> {
+        private final long mySeed;
+        private final long myFrom;
+        private final long myTo;
+        private final long mySlice;
+
+        /**
+         * Constructs a new RangeTask.
+         *
+         * @param theSeed The seed of the dice sequence.
+         * @param theFrom The first round number, inclusive.
+         * @param theTo The last round number, exclusive.
+         * @param theSlice The round count at or below which the task plays directly.
+         */
+        RangeTask(long theSeed, long theFrom, long theTo, long theSlice) {
+            mySeed = theSeed;
+            myFrom = theFrom;
+            myTo = theTo;
+            mySlice = theSlice;
+        }
+
+        @Override
+        protected SimulationResult compute() {
+            if (myTo - myFrom <= mySlice) {
+                return play();
+            }
+            final long middle = myFrom + (myTo - myFrom) / 2;
+            final RangeTask right = new RangeTask(mySeed, middle, myTo, mySlice);
+            right.fork();
+            final SimulationResult left = new RangeTask(mySeed, myFrom, middle, mySlice).compute();
+            return merge(left, right.join());
+        }
+
+        /**
+         * Plays this task's rounds with the configured BatchEngine.
+         *
+         * @return The tallies of the rounds, with the bank as a delta from zero.
+         */
+        private SimulationResult play() {
+            final SimulationResult result = BatchEngine.configured().play(mySeed, myFrom, myTo);
+            final long rounds = result.getRounds();
+            return new SimulationResult(rounds, result.getPlayerWins(), result.getHouseWins(),
+                    result.getPointsEstablished(), result.getRolls(),
+                    0, (2 * result.getPlayerWins() - rounds) * myBetAmount, result.getElapsedNanos());
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package model;
+
+/**
+ * This class computes the exact odds of the pass-line game.
+ * The game played by firstRoll and additionalRolls is an absorbing Markov
+ * chain: the come-out state and one state per point are transient, and a
+ * player win or house win ends the round. The transition probabilities are
+ * counted from the 36 dice outcomes, and the chain is solved once, when the
+ * class loads, so every lookup afterwards is a table read.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public final class PassLineOdds {
+    private static final int[] POINTS = {4, 5, 6, 8, 9, 10};
+    private static final int WIN = -1;
+    private static final int LOSE = -2;
+
+    private static final double[] WIN_PROBABILITY = new double[13];
+    private static final double[] EXPECTED_ROLLS = new double[13];
+
+    static {
+        solve();
+    }
+
+    private PassLineOdds() {
+    }
+
+    /**
+     * Gets the probability that the player wins the round.
+     *
+     * @param thePoint The current point, or 0 before the come-out roll.
+     * @return The win probability.
+     * @throws IllegalArgumentException If the point is not 0, 4, 5, 6, 8, 9 or 10.
+     */
+    public static double getWinProbability(int thePoint) {
+        checkPoint(thePoint);
+        return WIN_PROBABILITY[thePoint];
+    }
+
+    /**
+     * Gets the expected number of rolls left before the round is decided.
+     *
+     * @param thePoint The current point, or 0 before the come-out roll.
+     * @return The expected number of rolls.
+     * @throws IllegalArgumentException If the point is not 0, 4, 5, 6, 8, 9 or 10.
+     */
+    public static double getExpectedRolls(int thePoint) {
+        checkPoint(thePoint);
+        return EXPECTED_ROLLS[thePoint];
+    }
+
+    /**
+     * Gets the expected profit per unit bet. A win pays twice the bet like
+     * winBet and a loss forfeits it like loseBet, so the value is 2p - 1.
+     *
+     * @param thePoint The current point, or 0 before the come-out roll.
+     * @return The expected value per unit bet.
+     * @throws IllegalArgumentException If the point is not 0, 4, 5, 6, 8, 9 or 10.
+     */
+    public static double getExpectedValue(int thePoint) {
+        return 2 * getWinProbability(thePoint) - 1;
+    }
+
+    /**
+     * Checks that a point is one the game can have.
+     *
+     * @param thePoint The point to check.
+     * @throws IllegalArgumentException If the point is not 0, 4, 5, 6, 8, 9 or 10.
+     */
+    private static void checkPoint(int thePoint) {
+        if (thePoint != 0 && (thePoint < 4 || thePoint > 10 || thePoint == 7)) {
+            throw new IllegalArgumentException("NOT A POINT");
+        }
+    }
+
+    /**
+     * Builds the chain and solves for the win probability and expected rolls
+     * of every transient state.
+     * With Q the transient-to-transient transitions and R the transitions into
+     * a player win, the win probabilities are (I - Q)^-1 R and the expected
+     * rolls are (I - Q)^-1 times a vector of ones.
+     */
+    private static void solve() {
+        final int states = POINTS.length + 1;
+        final double[][] system = new double[states][states + 2];
+
+        for (int state = 0; state < states; state++) {
+            final int point = state == 0 ? 0 : POINTS[state - 1];
+            system[state][state] = 1;
+            system[state][states + 1] = 1;
+            for (int outcome = 0; outcome < Dice.OUTCOMES; outcome++) {
+                final double probability = 1.0 / Dice.OUTCOMES;
+                final int next = transition(point, Dice.total(outcome));
+                if (next == WIN) {
+                    system[state][states] += probability;
+                } else if (next != LOSE) {
+                    system[state][stateOf(next)] -= probability;
+                }
+            }
+        }
+
+        eliminate(system);
+        for (int state = 0; state < states; state++) {
+            final int point = state == 0 ? 0 : POINTS[state - 1];
+            WIN_PROBABILITY[point] = system[state][states];
+            EXPECTED_ROLLS[point] = system[state][states + 1];
+        }
+    }
+
+    /**
+     * Applies the rules of firstRoll and additionalRolls to one roll.
+     *
+     * @param thePoint The current point, or 0 on the come-out roll.
+     * @param theTotal The total rolled.
+     * @return WIN, LOSE, or the point after the roll.
+     */
+    private static int transition(int thePoint, int theTotal) {
+        if (thePoint == 0) {
+            if (theTotal == 7 || theTotal == 11) {
+                return WIN;
+            } else if (theTotal == 2 || theTotal == 3 || theTotal == 12) {
+                return LOSE;
+            }
+            return theTotal;
+        }
+        if (theTotal == thePoint) {
+            return WIN;
+        } else if (theTotal == 7) {
+            return LOSE;
+        }
+        return thePoint;
+    }
+
+    /**
+     * Gets the row of a point in the linear system.
+     *
+     * @param thePoint The point, or 0 for the come-out state.
+     * @return The row index.
+     */
+    private static int stateOf(int thePoint) {
+        for (int i = 0; i < POINTS.length; i++) {
+            if (POINTS[i] == thePoint) {
+                return i + 1;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Solves a linear system in place with Gauss-Jordan elimination and partial
+     * pivoting. The columns after the square part are the right-hand sides and
+     * hold the solutions afterwards.
+     *
+     * @param theSystem The augmented matrix.
+     */
+    private static void eliminate(double[][] theSystem) {
+        final int size = theSystem.length;
+        for (int column = 0; column < size; column++) {
+            int pivot = column;
+            for (int row = column + 1; row < size; row++) {
+                if (Math.abs(theSystem[row][column]) > Math.abs(theSystem[pivot][column])) {
+                    pivot = row;
+                }
+            }
+            final double[] swap = theSystem[column];
+            theSystem[column] = theSystem[pivot];
+            theSystem[pivot] = swap;
+
+            final double divisor = theSystem[column][column];
+            for (int k = column; k < theSystem[column].length; k++) {
+                theSystem[column][k] /= divisor;
+            }
+            for (int row = 0; row < size; row++) {
+                final double factor = theSystem[row][column];
+                if (row != column && factor != 0) {
+                    for (int k = column; k < theSystem[row].length; k++) {
+                        theSystem[row][k] -= factor * theSystem[column][k];
+                    }
+                }
+            }
+        }
+    }
+}
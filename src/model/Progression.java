@@ -0,0 +1,46 @@
+package model;
+
+/**
+ * The built-in betting progressions.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public enum Progression implements BettingStrategy {
+    /**
+     * Bets the base bet every round.
+     */
+    FLAT {
+        @Override
+        public int nextBet(int theBaseBet, int theLastBet, boolean theLastWon, long theBank) {
+            return theBaseBet;
+        }
+    },
+
+    /**
+     * Doubles the bet after every loss and returns to the base bet after a win.
+     */
+    MARTINGALE {
+        @Override
+        public int nextBet(int theBaseBet, int theLastBet, boolean theLastWon, long theBank) {
+            if (theLastBet == 0 || theLastWon) {
+                return theBaseBet;
+            }
+            return (int) Math.min(Integer.MAX_VALUE, theLastBet * 2L);
+        }
+    },
+
+    /**
+     * Doubles the bet after every win, up to three wins in a row, and returns
+     * to the base bet after a loss or after the third win.
+     */
+    PAROLI {
+        @Override
+        public int nextBet(int theBaseBet, int theLastBet, boolean theLastWon, long theBank) {
+            if (theLastBet == 0 || !theLastWon || theLastBet >= theBaseBet * 4L) {
+                return theBaseBet;
+            }
+            return (int) Math.min(Integer.MAX_VALUE, theLastBet * 2L);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package model;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * A dice source that rolls each die with its own nextInt(6) call.
+ * This is the behaviour GameLogic has always had.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public class RandomDiceSource implements DiceSource {
+    private final RandomGenerator myRoller;
+
+    /**
+     * Constructs a new RandomDiceSource.
+     *
+     * @param theRoller The random number generator to roll with.
+     */
+    public RandomDiceSource(RandomGenerator theRoller) {
+        myRoller = theRoller;
+    }
+
+    @Override
+    public int nextRoll() {
+        int dieOne = myRoller.nextInt(6) + 1;
+        int dieTwo = myRoller.nextInt(6) + 1;
+        return Dice.outcome(dieOne, dieTwo);
+    }
+}
@@ -0,0 +1,44 @@
+package model;
+
+/**
+ * A dice source that can be told what the next roll will be.
+ * Replaying a journal sets each recorded roll before rolling, and once
+ * nothing is queued the source rolls with the live source it wraps, so a
+ * recovered table can keep playing.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public class ReplayDiceSource implements DiceSource {
+    private final DiceSource myLiveSource;
+    private int myNextRoll;
+
+    /**
+     * Constructs a new ReplayDiceSource.
+     *
+     * @param theLiveSource The source used when no roll is queued.
+     */
+    public ReplayDiceSource(DiceSource theLiveSource) {
+        myLiveSource = theLiveSource;
+        myNextRoll = -1;
+    }
+
+    /**
+     * Queues the outcome of the next roll.
+     *
+     * @param theOutcome The outcome, 0 to 35.
+     */
+    public void replay(int theOutcome) {
+        myNextRoll = theOutcome;
+    }
+
+    @Override
+    public int nextRoll() {
+        final int roll = myNextRoll;
+        if (roll < 0) {
+            return myLiveSource.nextRoll();
+        }
+        myNextRoll = -1;
+        return roll;
+    }
+}
@@ -0,0 +1,222 @@
+package model;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/**
+ * This class keeps the last rolls of many tables in one off-heap ring buffer.
+ * Every table owns a fixed slot of a direct ByteBuffer: a 64-byte header
+ * holding a sequence number, a count of every total in the window and the
+ * next ring position, followed by a ring of one-byte outcomes. Recording a roll overwrites the
+ * oldest outcome and adjusts the two affected counts, so the counts of each
+ * total over the window are always available without a scan, and no object
+ * is allocated per table or per roll.
+
+ * Each table must be recorded by one thread at a time, such as the thread
+ * that plays it, but any thread can read it while it keeps rolling. The
+ * sequence number is odd while a roll is being written, and a reader that
+ * sees it change while copying retries, so reads never block the table.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public final class RollHistory {
+    private static final int HEADER_SIZE = 64;
+    private static final int COUNTS_OFFSET = 8;
+    private static final int NEXT_OFFSET = 60;
+    private static final int TOTALS = 13;
+    private static final VarHandle LONG =
+            MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+    private static final VarHandle INT =
+            MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.nativeOrder());
+
+    private final ByteBuffer myBuffer;
+    private final int myTables;
+    private final int myWindow;
+    private final int myStride;
+
+    /**
+     * Constructs a new RollHistory with an empty window for every table.
+     *
+     * @param theTables The number of tables, numbered from 0.
+     * @param theWindow The number of rolls kept for each table.
+     * @throws IllegalArgumentException If either number is not positive or
+     * the history does not fit in one buffer.
+     */
+    public RollHistory(int theTables, int theWindow) {
+        if (theTables <= 0 || theWindow <= 0) {
+            throw new IllegalArgumentException("ONLY POSITIVE NUMBERS");
+        }
+        final long stride = HEADER_SIZE + ((theWindow + 7L) & ~7L);
+        if (stride * theTables > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("HISTORY TOO LARGE");
+        }
+        myTables = theTables;
+        myWindow = theWindow;
+        myStride = (int) stride;
+        myBuffer = ByteBuffer.allocateDirect(myStride * theTables).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Gets the number of tables.
+     *
+     * @return The number of tables.
+     */
+    public int getTables() {
+        return myTables;
+    }
+
+    /**
+     * Gets the number of rolls kept for each table.
+     *
+     * @return The window size.
+     */
+    public int getWindow() {
+        return myWindow;
+    }
+
+    /**
+     * Records one roll of a table, replacing its oldest roll once the window is full.
+     *
+     * @param theTable The table number.
+     * @param theOutcome The outcome of the roll, 0 to 35.
+     */
+    public void record(int theTable, int theOutcome) {
+        final int base = base(theTable);
+        final long sequence = myBuffer.getLong(base);
+        myBuffer.putLong(base, sequence + 1);
+        VarHandle.storeStoreFence();
+
+        final int next = myBuffer.getInt(base + NEXT_OFFSET);
+        final int slot = base + HEADER_SIZE + next;
+        if (sequence >>> 1 >= myWindow) {
+            addCount(base, Dice.total(myBuffer.get(slot)), -1);
+        }
+        myBuffer.put(slot, (byte) theOutcome);
+        addCount(base, Dice.total(theOutcome), 1);
+        myBuffer.putInt(base + NEXT_OFFSET, next + 1 == myWindow ? 0 : next + 1);
+
+        VarHandle.releaseFence();
+        myBuffer.putLong(base, sequence + 2);
+    }
+
+    /**
+     * Wraps a dice source so every roll it makes is recorded for a table.
+     *
+     * @param theTable The table number.
+     * @param theDice The source that rolls for the table.
+     * @return A source that rolls with the given source and records each roll.
+     */
+    public DiceSource recording(int theTable, DiceSource theDice) {
+        base(theTable);
+        return () -> {
+            final int roll = theDice.nextRoll();
+            record(theTable, roll);
+            return roll;
+        };
+    }
+
+    /**
+     * Gets the number of rolls ever recorded for a table.
+     *
+     * @param theTable The table number.
+     * @return The number of rolls, including those that left the window.
+     */
+    public long getRollCount(int theTable) {
+        return (long) LONG.getAcquire(myBuffer, base(theTable)) >>> 1;
+    }
+
+    /**
+     * Gets how many rolls in a table's window have a total. The count is
+     * read without waiting for a roll being recorded, so it may be one roll
+     * behind the other counts.
+     *
+     * @param theTable The table number.
+     * @param theTotal The total, 2 to 12.
+     * @return The number of rolls in the window with the total.
+     */
+    public int getTotalCount(int theTable, int theTotal) {
+        if (theTotal < 2 || theTotal >= TOTALS) {
+            return 0;
+        }
+        return (int) INT.getOpaque(myBuffer, base(theTable) + COUNTS_OFFSET + theTotal * 4);
+    }
+
+    /**
+     * Copies the counts of every total in a table's window, all taken
+     * between the same two rolls.
+     *
+     * @param theTable The table number.
+     * @param theCounts The array to fill, indexed by total, with room for index 12.
+     * @return The number of rolls ever recorded for the table when the counts were taken.
+     */
+    public long getTotalCounts(int theTable, int[] theCounts) {
+        final int base = base(theTable);
+        while (true) {
+            final long sequence = (long) LONG.getAcquire(myBuffer, base);
+            if ((sequence & 1) == 0) {
+                for (int total = 0; total < TOTALS; total++) {
+                    theCounts[total] = (int) INT.get(myBuffer, base + COUNTS_OFFSET + total * 4);
+                }
+                VarHandle.loadLoadFence();
+                if ((long) LONG.getOpaque(myBuffer, base) == sequence) {
+                    return sequence >>> 1;
+                }
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Copies the most recent rolls of a table, oldest first.
+     *
+     * @param theTable The table number.
+     * @param theOutcomes The array to fill; at most its length rolls are copied.
+     * @return The number of rolls copied.
+     */
+    public int getLastRolls(int theTable, int[] theOutcomes) {
+        final int base = base(theTable);
+        while (true) {
+            final long sequence = (long) LONG.getAcquire(myBuffer, base);
+            if ((sequence & 1) == 0) {
+                final long written = sequence >>> 1;
+                final int count = (int) Math.min(Math.min(written, myWindow), theOutcomes.length);
+                for (int i = 0; i < count; i++) {
+                    final long position = written - count + i;
+                    theOutcomes[i] = myBuffer.get(base + HEADER_SIZE + (int) (position % myWindow));
+                }
+                VarHandle.loadLoadFence();
+                if ((long) LONG.getOpaque(myBuffer, base) == sequence) {
+                    return count;
+                }
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Adds to the count of one total in a table's header.
+     *
+     * @param theBase The offset of the table's slot.
+     * @param theTotal The total, 2 to 12.
+     * @param theDelta The amount to add.
+     */
+    private void addCount(int theBase, int theTotal, int theDelta) {
+        final int offset = theBase + COUNTS_OFFSET + theTotal * 4;
+        myBuffer.putInt(offset, myBuffer.getInt(offset) + theDelta);
+    }
+
+    /**
+     * Finds the offset of a table's slot.
+     *
+     * @param theTable The table number.
+     * @return The offset of the table's header in the buffer.
+     * @throws IndexOutOfBoundsException If there is no such table.
+     */
+    private int base(int theTable) {
+        return Objects.checkIndex(theTable, myTables) * myStride;
+    }
+}
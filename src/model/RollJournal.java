@@ -0,0 +1,236 @@
+package model;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * This class is an append-only binary journal of every roll and bet.
+ * Records have a fixed size and are written straight into a memory-mapped
+ * region of the file, which is flushed to disk once per group of records
+ * instead of once per record. When a region fills up the next one is mapped.
+
+ * Each record holds a sequence number, a table id, the record kind, the
+ * dice of a roll, an amount and the change in bank balance. The journal
+ * has a single writer; it is not safe to append from several threads.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public class RollJournal implements Closeable {
+    /**
+     * The size of every record, and of the file header, in bytes.
+     */
+    public static final int RECORD_SIZE = 32;
+
+    /**
+     * The kind of a record for a roll. The amount is the bet before the roll.
+     */
+    public static final byte ROLL = 1;
+
+    /**
+     * The kind of a record for a bet. The amount is the amount added to the bet.
+     */
+    public static final byte BET = 2;
+
+    /**
+     * The kind of a record for setting the bank. The amount is the new bank balance.
+     */
+    public static final byte BANK = 3;
+
+    /**
+     * The kind of a record for starting a new game.
+     */
+    public static final byte NEW_GAME = 4;
+
+    /**
+     * The kind of a record for resetting the game.
+     */
+    public static final byte RESET = 5;
+
+    /**
+     * The kind of a record for a come-out roll made with firstRoll. The amount is the bet before the roll.
+     */
+    public static final byte FIRST_ROLL = 6;
+
+    /**
+     * The kind of a record for a roll made with additionalRolls. The amount is the bet before the roll.
+     */
+    public static final byte ADDITIONAL_ROLL = 7;
+
+    /**
+     * The kind of a record for a bare roll made with rollDice.
+     */
+    public static final byte ROLL_DICE = 8;
+
+    /**
+     * The kind of a record for setting the bet with setBet. The amount is the new bet.
+     */
+    public static final byte SET_BET = 9;
+
+    /**
+     * The kind of a record for setting the player's wins. The amount is the new number of wins.
+     */
+    public static final byte SET_PLAYER_WINS = 10;
+
+    /**
+     * The kind of a record for paying out the bet with winBet. The amount is the bet.
+     */
+    public static final byte WIN_BET = 11;
+
+    /**
+     * The kind of a record for forfeiting the bet with loseBet. The amount is the bet.
+     */
+    public static final byte LOSE_BET = 12;
+
+    static final int MAGIC = 0x43524A31;
+    static final int SEQUENCE_OFFSET = 0;
+    static final int TABLE_OFFSET = 8;
+    static final int KIND_OFFSET = 12;
+    static final int DIE_ONE_OFFSET = 13;
+    static final int DIE_TWO_OFFSET = 14;
+    static final int AMOUNT_OFFSET = 16;
+    static final int BANK_DELTA_OFFSET = 24;
+
+    private static final int DEFAULT_REGION_SIZE = 1 << 26;
+    private static final int DEFAULT_COMMIT_INTERVAL = 4096;
+
+    private final FileChannel myChannel;
+    private final int myRegionSize;
+    private final int myCommitInterval;
+    private MappedByteBuffer myRegion;
+    private long myRegionStart;
+    private int myPosition;
+    private int myCommittedPosition;
+    private int myPending;
+    private long mySequence;
+
+    /**
+     * Opens a journal for appending, creating the file if it does not exist.
+     * An existing journal is appended to after its last record.
+     *
+     * @param thePath The journal file.
+     * @param theRegionSize The number of bytes mapped at a time, a multiple of the record size.
+     * @param theCommitInterval The number of records written between flushes to disk.
+     * @throws IOException If the file cannot be opened or mapped.
+     * @throws IllegalArgumentException If the region size or commit interval is invalid.
+     */
+    public RollJournal(Path thePath, int theRegionSize, int theCommitInterval) throws IOException {
+        if (theRegionSize < RECORD_SIZE * 2 || theRegionSize % RECORD_SIZE != 0 || theCommitInterval <= 0) {
+            throw new IllegalArgumentException("INVALID JOURNAL SETTINGS");
+        }
+        myChannel = FileChannel.open(thePath, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        myRegionSize = theRegionSize;
+        myCommitInterval = theCommitInterval;
+
+        final JournalReader existing = new JournalReader(myChannel);
+        mySequence = existing.getLastSequence();
+        final long end = existing.getEndPosition();
+        map(end - end % myRegionSize);
+        myPosition = (int) (end - myRegionStart);
+        myCommittedPosition = myPosition;
+        if (end == 0) {
+            myRegion.putInt(0, MAGIC);
+            myRegion.putInt(4, RECORD_SIZE);
+            myPosition = RECORD_SIZE;
+        }
+    }
+
+    /**
+     * Opens a journal with the default region size and commit interval.
+     *
+     * @param thePath The journal file.
+     * @throws IOException If the file cannot be opened or mapped.
+     */
+    public RollJournal(Path thePath) throws IOException {
+        this(thePath, DEFAULT_REGION_SIZE, DEFAULT_COMMIT_INTERVAL);
+    }
+
+    /**
+     * Appends one record.
+     *
+     * @param theTable The table id.
+     * @param theKind The record kind, such as ROLL or BET.
+     * @param theDieOne The first die of a roll, or 0.
+     * @param theDieTwo The second die of a roll, or 0.
+     * @param theAmount The amount of the record, which depends on its kind.
+     * @param theBankDelta The change in bank balance caused by the record.
+     * @return The sequence number given to the record.
+     * @throws IOException If the next region cannot be mapped.
+     */
+    public long append(int theTable, byte theKind, int theDieOne, int theDieTwo, int theAmount,
+                       long theBankDelta) throws IOException {
+        if (myPosition == myRegionSize) {
+            commit();
+            map(myRegionStart + myRegionSize);
+        }
+        final MappedByteBuffer region = myRegion;
+        final int position = myPosition;
+        final long sequence = ++mySequence;
+
+        region.putLong(position + SEQUENCE_OFFSET, sequence);
+        region.putInt(position + TABLE_OFFSET, theTable);
+        region.put(position + DIE_ONE_OFFSET, (byte) theDieOne);
+        region.put(position + DIE_TWO_OFFSET, (byte) theDieTwo);
+        region.putInt(position + AMOUNT_OFFSET, theAmount);
+        region.putLong(position + BANK_DELTA_OFFSET, theBankDelta);
+        // The kind is written last: a record with kind 0 marks the end of the journal.
+        region.put(position + KIND_OFFSET, theKind);
+        myPosition = position + RECORD_SIZE;
+
+        if (++myPending >= myCommitInterval) {
+            commit();
+        }
+        return sequence;
+    }
+
+    /**
+     * Flushes every record written since the last commit to disk.
+     */
+    public void commit() {
+        if (myPosition > myCommittedPosition) {
+            myRegion.force(myCommittedPosition, myPosition - myCommittedPosition);
+            myCommittedPosition = myPosition;
+        }
+        myPending = 0;
+    }
+
+    /**
+     * Gets the sequence number of the last record appended.
+     *
+     * @return The last sequence number, or 0 if the journal is empty.
+     */
+    public long getLastSequence() {
+        return mySequence;
+    }
+
+    /**
+     * Maps the region of the file that starts at the given position.
+     *
+     * @param theStart The file position of the region, a multiple of the region size.
+     * @throws IOException If the region cannot be mapped.
+     */
+    private void map(long theStart) throws IOException {
+        myRegion = myChannel.map(FileChannel.MapMode.READ_WRITE, theStart, myRegionSize);
+        myRegion.order(ByteOrder.LITTLE_ENDIAN);
+        myRegionStart = theStart;
+        myPosition = 0;
+        myCommittedPosition = 0;
+    }
+
+    /**
+     * Commits the remaining records and closes the journal.
+     *
+     * @throws IOException If the file cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        commit();
+        myChannel.close();
+    }
+}
@@ -0,0 +1,136 @@
+package model;
+
+/**
+ * This class is an immutable snapshot of a table right after a roll.
+ * The view reads everything it shows from one RollResult instead of
+ * calling GameLogic's getters one at a time.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public final class RollResult {
+    private final int myDieOne;
+    private final int myDieTwo;
+    private final int myTotal;
+    private final int myPoint;
+    private final boolean myPointGained;
+    private final int myPlayerWins;
+    private final int myHouseWins;
+    private final int myBet;
+    private final int myBankBalance;
+
+    /**
+     * Constructs a new RollResult.
+     *
+     * @param theDieOne The value of the first die.
+     * @param theDieTwo The value of the second die.
+     * @param theTotal The total of the dice.
+     * @param thePoint The point value.
+     * @param thePointGained Whether the roll decided the round.
+     * @param thePlayerWins The number of wins by the player.
+     * @param theHouseWins The number of wins by the house.
+     * @param theBet The current bet amount.
+     * @param theBankBalance The bank balance.
+     */
+    public RollResult(int theDieOne, int theDieTwo, int theTotal, int thePoint, boolean thePointGained,
+                      int thePlayerWins, int theHouseWins, int theBet, int theBankBalance) {
+        myDieOne = theDieOne;
+        myDieTwo = theDieTwo;
+        myTotal = theTotal;
+        myPoint = thePoint;
+        myPointGained = thePointGained;
+        myPlayerWins = thePlayerWins;
+        myHouseWins = theHouseWins;
+        myBet = theBet;
+        myBankBalance = theBankBalance;
+    }
+
+    /**
+     * Gets the value of the first die.
+     *
+     * @return The value of the first die.
+     */
+    public int getDieOne() {
+        return myDieOne;
+    }
+
+    /**
+     * Gets the value of the second die.
+     *
+     * @return The value of the second die.
+     */
+    public int getDieTwo() {
+        return myDieTwo;
+    }
+
+    /**
+     * Gets the total value of the dice.
+     *
+     * @return The total value of the dice.
+     */
+    public int getTotal() {
+        return myTotal;
+    }
+
+    /**
+     * Gets the point value.
+     *
+     * @return The point value.
+     */
+    public int getPoint() {
+        return myPoint;
+    }
+
+    /**
+     * Checks if the roll decided the round.
+     *
+     * @return true if the round was decided, false otherwise.
+     */
+    public boolean getPointGained() {
+        return myPointGained;
+    }
+
+    /**
+     * Gets the number of wins by the player.
+     *
+     * @return The number of wins by the player.
+     */
+    public int getPlayerWins() {
+        return myPlayerWins;
+    }
+
+    /**
+     * Gets the number of wins by the house.
+     *
+     * @return The number of wins by the house.
+     */
+    public int getHouseWins() {
+        return myHouseWins;
+    }
+
+    /**
+     * Gets the current bet amount.
+     *
+     * @return The current bet amount.
+     */
+    public int getBet() {
+        return myBet;
+    }
+
+    /**
+     * Gets the bank balance.
+     *
+     * @return The bank balance.
+     */
+    public int getBankBalance() {
+        return myBankBalance;
+    }
+
+    @Override
+    public String toString() {
+        return "RollResult[dice=" + myDieOne + "+" + myDieTwo + "=" + myTotal
+                + ", point=" + myPoint + ", gained=" + myPointGained
+                + ", player=" + myPlayerWins + ", house=" + myHouseWins
+                + ", bet=" + myBet + ", bank=" + myBankBalance + "]";
+    }
+}
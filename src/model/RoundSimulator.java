@@ -0,0 +1,168 @@
+package model;
+
+import java.util.SplittableRandom;
+
+/**
+ * This class plays complete pass-line rounds without a GUI.
+ * It applies the same rules as the firstRoll and additionalRolls
+ * methods in GameLogic, but keeps every counter in a local primitive
+ * so rounds can be played in a tight loop.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public class RoundSimulator {
+    /**
+     * Come-out results indexed by total: 1 is a natural, -1 is craps
+     * and 0 means the total becomes the point.
+     */
+    private static final byte[] COME_OUT = {0, 0, -1, -1, 0, 0, 0, 1, 0, 0, 0, 1, -1};
+
+    private final SplittableRandom myRandom;
+    private final long myStartingBank;
+    private final int myBetAmount;
+
+    /**
+     * Constructs a new RoundSimulator.
+     *
+     * @param theRandom The random number stream used for the dice.
+     * @param theStartingBank The bank balance to start with.
+     * @param theBetAmount The flat bet placed on every round.
+     * @throws IllegalArgumentException If the bank or bet is negative.
+     */
+    public RoundSimulator(SplittableRandom theRandom, long theStartingBank, int theBetAmount) {
+        if (theStartingBank < 0 || theBetAmount < 0) {
+            throw new IllegalArgumentException("ONLY POSITIVE NUMBERS");
+        }
+        myRandom = theRandom;
+        myStartingBank = theStartingBank;
+        myBetAmount = theBetAmount;
+    }
+
+    /**
+     * Constructs a new RoundSimulator with a seeded random number stream.
+     *
+     * @param theSeed The seed for the dice.
+     * @param theStartingBank The bank balance to start with.
+     * @param theBetAmount The flat bet placed on every round.
+     */
+    public RoundSimulator(long theSeed, long theStartingBank, int theBetAmount) {
+        this(new SplittableRandom(theSeed), theStartingBank, theBetAmount);
+    }
+
+    /**
+     * Plays the given number of complete rounds.
+     * The flat bet is capped at the current bank balance, the same way
+     * updateBet will not take more than the bank holds.
+     *
+     * @param theRounds The number of rounds to play.
+     * @return The tallies of the run.
+     */
+    public SimulationResult run(long theRounds) {
+        final SplittableRandom random = myRandom;
+        final int bet = myBetAmount;
+        long bank = myStartingBank;
+        long playerWins = 0;
+        long pointsEstablished = 0;
+        long rolls = 0;
+
+        final long start = System.nanoTime();
+        for (long i = 0; i < theRounds; i++) {
+            final int round = playRound(random);
+            final long stake = Math.min(bet, bank);
+            if (round > 0) {
+                playerWins++;
+                bank += stake;
+            } else {
+                bank -= stake;
+            }
+            final int length = Math.abs(round);
+            rolls += length;
+            if (length > 1) {
+                pointsEstablished++;
+            }
+        }
+        final long elapsed = System.nanoTime() - start;
+
+        return new SimulationResult(theRounds, playerWins, theRounds - playerWins, pointsEstablished,
+                rolls, myStartingBank, bank, elapsed);
+    }
+
+    /**
+     * Plays one complete round.
+     * Each 64-bit draw is split into two 32-bit halves and each half
+     * is scaled into one of the 36 dice outcomes, so one
+     * draw covers two rolls.
+     *
+     * @param theRandom The random number stream used for the dice.
+     * @return The number of rolls in the round, positive if the player won
+     * and negative if the house won.
+     */
+    static int playRound(SplittableRandom theRandom) {
+        long bits = theRandom.nextLong();
+        int total = Dice.total(cell(bits >>> 32));
+        final int comeOut = COME_OUT[total];
+        if (comeOut != 0) {
+            return comeOut;
+        }
+
+        final int point = total;
+        int rolls = 1;
+        while (true) {
+            total = Dice.total(cell(bits & 0xFFFFFFFFL));
+            rolls++;
+            if (total == point) {
+                return rolls;
+            } else if (total == 7) {
+                return -rolls;
+            }
+
+            bits = theRandom.nextLong();
+            total = Dice.total(cell(bits >>> 32));
+            rolls++;
+            if (total == point) {
+                return rolls;
+            } else if (total == 7) {
+                return -rolls;
+            }
+        }
+    }
+
+    /**
+     * Plays one complete round with rolls from a dice source.
+     *
+     * @param theDice The source of dice rolls.
+     * @return The number of rolls in the round, positive if the player won
+     * and negative if the house won.
+     */
+    static int playRound(DiceSource theDice) {
+        int total = Dice.total(theDice.nextRoll());
+        final int comeOut = COME_OUT[total];
+        if (comeOut != 0) {
+            return comeOut;
+        }
+
+        final int point = total;
+        int rolls = 1;
+        while (true) {
+            total = Dice.total(theDice.nextRoll());
+            rolls++;
+            if (total == point) {
+                return rolls;
+            } else if (total == 7) {
+                return -rolls;
+            }
+        }
+    }
+
+    /**
+     * Scales 32 random bits into one of the 36 outcomes of two dice
+     * with a multiply instead of a division.
+     *
+     * @param theBits The random bits, in the low 32 bits of the value.
+     * @return The outcome, 0 to 35.
+     */
+    static int cell(long theBits) {
+        return (int) ((theBits * Dice.OUTCOMES) >>> 32);
+    }
+}
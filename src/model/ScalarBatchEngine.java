@@ -0,0 +1,45 @@
+package model;
+
+/**
+ * A BatchEngine that plays one round at a time with the same rules as
+ * firstRoll and additionalRolls. It needs no optional modules, and it is
+ * the reference the vector engine is checked against.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+final class ScalarBatchEngine implements BatchEngine {
+
+    @Override
+    public SimulationResult play(long theSeed, long theFrom, long theTo) {
+        final long start = System.nanoTime();
+        final long key = CounterDiceSource.mix(theSeed);
+        long playerWins = 0;
+        long pointsEstablished = 0;
+        long rolls = 0;
+
+        for (long round = theFrom; round < theTo; round++) {
+            final long position = round << 32;
+            int total = Dice.total(CounterDiceSource.roll(key, position));
+            int length = 1;
+            if (total == 7 || total == 11) {
+                playerWins++;
+            } else if (total != 2 && total != 3 && total != 12) {
+                pointsEstablished++;
+                final int point = total;
+                do {
+                    total = Dice.total(CounterDiceSource.roll(key, position + length));
+                    length++;
+                } while (total != point && total != 7);
+                if (total == point) {
+                    playerWins++;
+                }
+            }
+            rolls += length;
+        }
+
+        final long rounds = Math.max(0, theTo - theFrom);
+        return new SimulationResult(rounds, playerWins, rounds - playerWins, pointsEstablished, rolls,
+                0, 0, System.nanoTime() - start);
+    }
+}
@@ -0,0 +1,82 @@
+package model;
+
+/**
+ * This class holds the limits of one back-testing session.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public final class SessionConfig {
+    private final long myStartingBank;
+    private final int myBaseBet;
+    private final long myStopLoss;
+    private final long myStopWin;
+    private final int myMaxRounds;
+
+    /**
+     * Constructs a new SessionConfig.
+     *
+     * @param theStartingBank The bank balance each session starts with.
+     * @param theBaseBet The base bet handed to the strategy.
+     * @param theStopLoss The loss at which a session stops, or 0 for none.
+     * @param theStopWin The profit at which a session stops, or 0 for none.
+     * @param theMaxRounds The most rounds a session plays.
+     * @throws IllegalArgumentException If any value is negative or the base bet is not positive.
+     */
+    public SessionConfig(long theStartingBank, int theBaseBet, long theStopLoss, long theStopWin,
+                         int theMaxRounds) {
+        if (theStartingBank < 0 || theBaseBet <= 0 || theStopLoss < 0 || theStopWin < 0 || theMaxRounds < 0) {
+            throw new IllegalArgumentException("ONLY POSITIVE NUMBERS");
+        }
+        myStartingBank = theStartingBank;
+        myBaseBet = theBaseBet;
+        myStopLoss = theStopLoss;
+        myStopWin = theStopWin;
+        myMaxRounds = theMaxRounds;
+    }
+
+    /**
+     * Gets the bank balance each session starts with.
+     *
+     * @return The starting bank.
+     */
+    public long getStartingBank() {
+        return myStartingBank;
+    }
+
+    /**
+     * Gets the base bet handed to the strategy.
+     *
+     * @return The base bet.
+     */
+    public int getBaseBet() {
+        return myBaseBet;
+    }
+
+    /**
+     * Gets the loss at which a session stops.
+     *
+     * @return The stop-loss, or 0 for none.
+     */
+    public long getStopLoss() {
+        return myStopLoss;
+    }
+
+    /**
+     * Gets the profit at which a session stops.
+     *
+     * @return The stop-win, or 0 for none.
+     */
+    public long getStopWin() {
+        return myStopWin;
+    }
+
+    /**
+     * Gets the most rounds a session plays.
+     *
+     * @return The round limit.
+     */
+    public int getMaxRounds() {
+        return myMaxRounds;
+    }
+}
@@ -0,0 +1,211 @@
+package model;
+
+/**
+ * This class holds the tallies produced by a headless simulation run.
+ * All counters are primitives so a result can be built and read
+ * without any boxing on the simulation path.
+
+ * A run whose bets are not capped at a bank has no meaningful final bank,
+ * because the bank could go below zero. Such a run reports only its net
+ * winnings, which can be negative: its starting bank is 0 and its final
+ * bank is the net winnings, and isNetOnly returns true.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public final class SimulationResult {
+    private final long myRounds;
+    private final long myPlayerWins;
+    private final long myHouseWins;
+    private final long myPointsEstablished;
+    private final long myRolls;
+    private final long myStartingBank;
+    private final long myFinalBank;
+    private final long myElapsedNanos;
+    private final boolean myNetOnly;
+
+    /**
+     * Constructs a new SimulationResult.
+     *
+     * @param theRounds The number of complete rounds played.
+     * @param thePlayerWins The number of rounds won by the player.
+     * @param theHouseWins The number of rounds won by the house.
+     * @param thePointsEstablished The number of rounds in which a point was set.
+     * @param theRolls The total number of dice rolls made.
+     * @param theStartingBank The bank balance at the start of the run.
+     * @param theFinalBank The bank balance at the end of the run.
+     * @param theElapsedNanos The wall-clock time of the run in nanoseconds.
+     */
+    public SimulationResult(long theRounds, long thePlayerWins, long theHouseWins,
+                            long thePointsEstablished, long theRolls, long theStartingBank,
+                            long theFinalBank, long theElapsedNanos) {
+        this(theRounds, thePlayerWins, theHouseWins, thePointsEstablished, theRolls,
+                theStartingBank, theFinalBank, theElapsedNanos, false);
+    }
+
+    /**
+     * Constructs a new SimulationResult of either kind.
+     *
+     * @param theRounds The number of complete rounds played.
+     * @param thePlayerWins The number of rounds won by the player.
+     * @param theHouseWins The number of rounds won by the house.
+     * @param thePointsEstablished The number of rounds in which a point was set.
+     * @param theRolls The total number of dice rolls made.
+     * @param theStartingBank The bank balance at the start of the run.
+     * @param theFinalBank The bank balance at the end of the run.
+     * @param theElapsedNanos The wall-clock time of the run in nanoseconds.
+     * @param theNetOnly true if the final bank is only the net winnings.
+     */
+    private SimulationResult(long theRounds, long thePlayerWins, long theHouseWins,
+                             long thePointsEstablished, long theRolls, long theStartingBank,
+                             long theFinalBank, long theElapsedNanos, boolean theNetOnly) {
+        myRounds = theRounds;
+        myPlayerWins = thePlayerWins;
+        myHouseWins = theHouseWins;
+        myPointsEstablished = thePointsEstablished;
+        myRolls = theRolls;
+        myStartingBank = theStartingBank;
+        myFinalBank = theFinalBank;
+        myElapsedNanos = theElapsedNanos;
+        myNetOnly = theNetOnly;
+    }
+
+    /**
+     * Creates a SimulationResult that reports only net winnings.
+     *
+     * @param theRounds The number of complete rounds played.
+     * @param thePlayerWins The number of rounds won by the player.
+     * @param theHouseWins The number of rounds won by the house.
+     * @param thePointsEstablished The number of rounds in which a point was set.
+     * @param theRolls The total number of dice rolls made.
+     * @param theNetWinnings The money won minus the money lost over the run.
+     * @param theElapsedNanos The wall-clock time of the run in nanoseconds.
+     * @return The result.
+     */
+    public static SimulationResult ofNetWinnings(long theRounds, long thePlayerWins, long theHouseWins,
+                                                 long thePointsEstablished, long theRolls,
+                                                 long theNetWinnings, long theElapsedNanos) {
+        return new SimulationResult(theRounds, thePlayerWins, theHouseWins, thePointsEstablished,
+                theRolls, 0, theNetWinnings, theElapsedNanos, true);
+    }
+
+    /**
+     * Gets the number of complete rounds played.
+     *
+     * @return The number of rounds.
+     */
+    public long getRounds() {
+        return myRounds;
+    }
+
+    /**
+     * Gets the number of rounds won by the player.
+     *
+     * @return The number of player wins.
+     */
+    public long getPlayerWins() {
+        return myPlayerWins;
+    }
+
+    /**
+     * Gets the number of rounds won by the house.
+     *
+     * @return The number of house wins.
+     */
+    public long getHouseWins() {
+        return myHouseWins;
+    }
+
+    /**
+     * Gets the number of rounds in which the first roll set a point.
+     *
+     * @return The number of points established.
+     */
+    public long getPointsEstablished() {
+        return myPointsEstablished;
+    }
+
+    /**
+     * Gets the total number of dice rolls made.
+     *
+     * @return The number of rolls.
+     */
+    public long getRolls() {
+        return myRolls;
+    }
+
+    /**
+     * Gets the bank balance at the start of the run.
+     *
+     * @return The starting bank balance, or 0 if the result reports only net winnings.
+     */
+    public long getStartingBank() {
+        return myStartingBank;
+    }
+
+    /**
+     * Gets the bank balance at the end of the run.
+     *
+     * @return The final bank balance, or the net winnings if the result reports only those.
+     */
+    public long getFinalBank() {
+        return myFinalBank;
+    }
+
+    /**
+     * Gets the change in bank balance over the run.
+     *
+     * @return The final bank minus the starting bank.
+     */
+    public long getBankDelta() {
+        return myFinalBank - myStartingBank;
+    }
+
+    /**
+     * Checks if the result reports only net winnings instead of a final bank.
+     *
+     * @return true if the bets were not capped at a bank.
+     */
+    public boolean isNetOnly() {
+        return myNetOnly;
+    }
+
+    /**
+     * Gets the wall-clock time of the run.
+     *
+     * @return The elapsed time in nanoseconds.
+     */
+    public long getElapsedNanos() {
+        return myElapsedNanos;
+    }
+
+    /**
+     * Gets the fraction of rounds won by the player.
+     *
+     * @return The player win rate, or 0 if no rounds were played.
+     */
+    public double getPlayerWinRate() {
+        return myRounds == 0 ? 0.0 : (double) myPlayerWins / myRounds;
+    }
+
+    /**
+     * Gets the simulation throughput.
+     *
+     * @return The number of rounds played per second of wall-clock time.
+     */
+    public double getRoundsPerSecond() {
+        return myElapsedNanos == 0 ? 0.0 : myRounds * 1_000_000_000.0 / myElapsedNanos;
+    }
+
+    /**
+     * Returns a short report of the run.
+     *
+     * @return The rounds/sec, win split and final bank or net winnings as text.
+     */
+    @Override
+    public String toString() {
+        return String.format("rounds=%d rounds/sec=%.0f player=%d (%.4f) house=%d points=%d %s=%d",
+                myRounds, getRoundsPerSecond(), myPlayerWins, getPlayerWinRate(), myHouseWins,
+                myPointsEstablished, myNetOnly ? "net winnings" : "final bank", myFinalBank);
+    }
+}
@@ -0,0 +1,152 @@
+package model;
+
+/**
+ * This class is an immutable copy of the counts kept by StreamingStats.
+ * Snapshots from separate tables or threads can be merged into one.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public final class StatsSnapshot {
+    private final long[] myTotals;
+    private final long[] myRoundLengths;
+    private final long[] myWinStreaks;
+    private final long[] myLossStreaks;
+    private final long[] myBanks;
+
+    /**
+     * Constructs a new StatsSnapshot that takes ownership of the given arrays.
+     *
+     * @param theTotals The count of each total.
+     * @param theRoundLengths The count of each round length.
+     * @param theWinStreaks The count of each player win streak length.
+     * @param theLossStreaks The count of each house win streak length.
+     * @param theBanks The bank balance histogram.
+     */
+    StatsSnapshot(long[] theTotals, long[] theRoundLengths, long[] theWinStreaks, long[] theLossStreaks,
+                  long[] theBanks) {
+        myTotals = theTotals;
+        myRoundLengths = theRoundLengths;
+        myWinStreaks = theWinStreaks;
+        myLossStreaks = theLossStreaks;
+        myBanks = theBanks;
+    }
+
+    /**
+     * Merges this snapshot with another one.
+     *
+     * @param theOther The snapshot to merge with.
+     * @return A new snapshot holding the counts of both.
+     */
+    public StatsSnapshot merge(StatsSnapshot theOther) {
+        return new StatsSnapshot(add(myTotals, theOther.myTotals), add(myRoundLengths, theOther.myRoundLengths),
+                add(myWinStreaks, theOther.myWinStreaks), add(myLossStreaks, theOther.myLossStreaks),
+                add(myBanks, theOther.myBanks));
+    }
+
+    /**
+     * Gets the number of rolls recorded.
+     *
+     * @return The number of rolls.
+     */
+    public long getRolls() {
+        return sum(myTotals);
+    }
+
+    /**
+     * Gets the number of times a total was rolled.
+     *
+     * @param theTotal The total, 2 to 12.
+     * @return The number of rolls with that total.
+     */
+    public long getTotalCount(int theTotal) {
+        return myTotals[theTotal];
+    }
+
+    /**
+     * Gets the number of rounds recorded.
+     *
+     * @return The number of settled rounds.
+     */
+    public long getRounds() {
+        return sum(myRoundLengths);
+    }
+
+    /**
+     * Gets the number of rounds that took a given number of rolls.
+     *
+     * @param theLength The number of rolls; MAX_LENGTH counts every longer round too.
+     * @return The number of rounds of that length.
+     */
+    public long getRoundLengthCount(int theLength) {
+        return myRoundLengths[Math.min(theLength, StreamingStats.MAX_LENGTH)];
+    }
+
+    /**
+     * Gets the number of finished player win streaks of a given length.
+     *
+     * @param theLength The streak length; MAX_LENGTH counts every longer streak too.
+     * @return The number of streaks of that length.
+     */
+    public long getWinStreakCount(int theLength) {
+        return myWinStreaks[Math.min(theLength, StreamingStats.MAX_LENGTH)];
+    }
+
+    /**
+     * Gets the number of finished house win streaks of a given length.
+     *
+     * @param theLength The streak length; MAX_LENGTH counts every longer streak too.
+     * @return The number of streaks of that length.
+     */
+    public long getLossStreakCount(int theLength) {
+        return myLossStreaks[Math.min(theLength, StreamingStats.MAX_LENGTH)];
+    }
+
+    /**
+     * Estimates a quantile of the bank balance after settlement.
+     *
+     * @param theFraction The quantile as a fraction, such as 0.5 for the median.
+     * @return The lower edge of the histogram bucket holding the quantile, or 0 if nothing was recorded.
+     */
+    public long getBankQuantile(double theFraction) {
+        final long count = sum(myBanks);
+        final long rank = Math.max(1, (long) Math.ceil(theFraction * count));
+        long seen = 0;
+        for (int i = 0; i < myBanks.length; i++) {
+            seen += myBanks[i];
+            if (seen >= rank) {
+                return LogLinearBuckets.floor(i, StreamingStats.SUB_BUCKET_BITS);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Adds two arrays element by element.
+     *
+     * @param theLeft The first array.
+     * @param theRight The second array, the same length as the first.
+     * @return A new array holding the sums.
+     */
+    private static long[] add(long[] theLeft, long[] theRight) {
+        final long[] sum = new long[theLeft.length];
+        for (int i = 0; i < sum.length; i++) {
+            sum[i] = theLeft[i] + theRight[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Adds up an array.
+     *
+     * @param theCounts The array.
+     * @return The sum of its elements.
+     */
+    private static long sum(long[] theCounts) {
+        long sum = 0;
+        for (long count : theCounts) {
+            sum += count;
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,136 @@
+package model;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * This class back-tests a betting strategy over many full sessions.
+ * Each session starts with the configured bank and plays pass-line rounds
+ * with the same round logic as the headless simulator until it hits its
+ * stop-loss, stop-win or round limit, or is ruined: its bank can no
+ * longer cover the base bet. A session that can cover the base bet but
+ * not the strategy's full bet plays a partial bet of its whole bank.
+ * Sessions are split across a ForkJoinPool with one SplittableRandom per
+ * worker, and the session loop allocates nothing.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public class StrategyBacktester {
+    private static final int BUCKETS = 1024;
+    private static final long MIN_SESSIONS_PER_TASK = 1 << 12;
+
+    private final BettingStrategy myStrategy;
+    private final SessionConfig myConfig;
+    private final long myBucketWidth;
+
+    /**
+     * Constructs a new StrategyBacktester.
+     *
+     * @param theStrategy The strategy that sizes each bet.
+     * @param theConfig The limits of each session.
+     */
+    public StrategyBacktester(BettingStrategy theStrategy, SessionConfig theConfig) {
+        myStrategy = theStrategy;
+        myConfig = theConfig;
+        final long upper = theConfig.getStopWin() > 0
+                ? theConfig.getStartingBank() + theConfig.getStopWin()
+                : theConfig.getStartingBank() * 2;
+        myBucketWidth = Math.max(1, (upper + theConfig.getBaseBet() + BUCKETS - 2) / (BUCKETS - 1));
+    }
+
+    /**
+     * Plays the given number of sessions split across the worker threads.
+     *
+     * @param theSessions The number of sessions.
+     * @param theSeed The seed of the root random number stream.
+     * @param theParallelism The number of worker threads.
+     * @return The merged outcome of every session.
+     */
+    public BacktestResult run(long theSessions, long theSeed, int theParallelism) {
+        final long slice = Math.max(MIN_SESSIONS_PER_TASK, theSessions / (theParallelism * 4L));
+        final ForkJoinPool pool = new ForkJoinPool(theParallelism);
+        try {
+            final long start = System.nanoTime();
+            final BacktestResult result = pool.invoke(
+                    new SessionTask(new SplittableRandom(theSeed), theSessions, slice));
+            result.setElapsedNanos(System.nanoTime() - start);
+            return result;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Plays sessions one after another on the calling thread.
+     *
+     * @param theRandom The random number stream for the dice.
+     * @param theSessions The number of sessions.
+     * @return The outcome of the sessions.
+     */
+    BacktestResult playSessions(SplittableRandom theRandom, long theSessions) {
+        final BacktestResult result = new BacktestResult(myBucketWidth, BUCKETS);
+        final BettingStrategy strategy = myStrategy;
+        final long startingBank = myConfig.getStartingBank();
+        final int baseBet = myConfig.getBaseBet();
+        final long floor = myConfig.getStopLoss() > 0 ? startingBank - myConfig.getStopLoss() : Long.MIN_VALUE;
+        final long target = myConfig.getStopWin() > 0 ? startingBank + myConfig.getStopWin() : Long.MAX_VALUE;
+        final int maxRounds = myConfig.getMaxRounds();
+
+        for (long session = 0; session < theSessions; session++) {
+            long bank = startingBank;
+            int lastBet = 0;
+            boolean lastWon = false;
+            int rounds = 0;
+
+            while (rounds < maxRounds && bank > floor && bank < target && bank >= baseBet) {
+                final int bet = (int) Math.min(strategy.nextBet(baseBet, lastBet, lastWon, bank), bank);
+                if (bet <= 0) {
+                    break;
+                }
+                lastWon = RoundSimulator.playRound(theRandom) > 0;
+                bank += lastWon ? bet : -bet;
+                lastBet = bet;
+                rounds++;
+            }
+            result.record(bank, rounds, bank < baseBet, bank >= target, bank <= floor);
+        }
+        return result;
+    }
+
+    /**
+     * A task that halves its session count until it is small enough
+     * to play directly, giving the right half a split random stream.
+     */
+    private final class SessionTask extends RecursiveTask<BacktestResult> {
+        private final SplittableRandom myRandom;
+        private final long mySessions;
+        private final long mySlice;
+
+        /**
+         * Constructs a new SessionTask.
+         *
+         * @param theRandom The random number stream owned by this task.
+         * @param theSessions The number of sessions this task covers.
+         * @param theSlice The session count at or below which the task plays directly.
+         */
+        SessionTask(SplittableRandom theRandom, long theSessions, long theSlice) {
+            myRandom = theRandom;
+            mySessions = theSessions;
+            mySlice = theSlice;
+        }
+
+        @Override
+        protected BacktestResult compute() {
+            if (mySessions <= mySlice) {
+                return playSessions(myRandom, mySessions);
+            }
+            final long half = mySessions / 2;
+            final SessionTask right = new SessionTask(myRandom.split(), mySessions - half, mySlice);
+            right.fork();
+            final BacktestResult left = new SessionTask(myRandom, half, mySlice).compute();
+            return left.merge(right.join());
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package model;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * This class keeps running statistics of a table in constant memory.
+ * It counts the totals rolled, the number of rolls in each round, the
+ * length of player and house win streaks, and the bank balance after
+ * every settlement. Bank balances go into a log-linear histogram with
+ * 32 sub-buckets per power of two, so quantiles are within about 3% of
+ * the true value for any balance a long can hold.
+
+ * Each instance has a single writer, usually the thread that plays the
+ * table. Counters are stored with release writes, so a monitoring thread
+ * can take a snapshot at any time without locks and without stopping
+ * the writer. Snapshots of separate tables or threads can be merged.
+
+ * Added to a GameLogic as a listener, the statistics are fed every roll
+ * and every decided round of that table.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public class StreamingStats implements GameListener {
+    /**
+     * The longest round or streak length counted exactly; longer ones share the last bucket.
+     */
+    public static final int MAX_LENGTH = 64;
+
+    static final int TOTALS = 13;
+    static final int SUB_BUCKET_BITS = 5;
+    static final int BANK_BUCKETS = LogLinearBuckets.count(SUB_BUCKET_BITS);
+
+    private final AtomicLongArray myTotals;
+    private final AtomicLongArray myRoundLengths;
+    private final AtomicLongArray myWinStreaks;
+    private final AtomicLongArray myLossStreaks;
+    private final AtomicLongArray myBanks;
+    private int myRoundRolls;
+    private int myStreak;
+    private boolean myStreakIsWin;
+
+    /**
+     * Constructs a new StreamingStats with every count at zero.
+     */
+    public StreamingStats() {
+        myTotals = new AtomicLongArray(TOTALS);
+        myRoundLengths = new AtomicLongArray(MAX_LENGTH + 1);
+        myWinStreaks = new AtomicLongArray(MAX_LENGTH + 1);
+        myLossStreaks = new AtomicLongArray(MAX_LENGTH + 1);
+        myBanks = new AtomicLongArray(BANK_BUCKETS);
+        myRoundRolls = 0;
+        myStreak = 0;
+        myStreakIsWin = false;
+    }
+
+    /**
+     * Records one roll of the dice.
+     *
+     * @param theTotal The total rolled, 2 to 12.
+     */
+    public void recordRoll(int theTotal) {
+        increment(myTotals, theTotal);
+        myRoundRolls++;
+    }
+
+    /**
+     * Records the end of a round: its length in rolls since the last
+     * settlement, the streak it extends or ends, and the bank afterwards.
+     *
+     * @param thePlayerWon true if the player won the round.
+     * @param theBankBalance The bank balance after the bet was settled.
+     */
+    public void recordSettlement(boolean thePlayerWon, long theBankBalance) {
+        increment(myRoundLengths, Math.min(myRoundRolls, MAX_LENGTH));
+        myRoundRolls = 0;
+
+        if (myStreak > 0 && thePlayerWon != myStreakIsWin) {
+            increment(myStreakIsWin ? myWinStreaks : myLossStreaks, Math.min(myStreak, MAX_LENGTH));
+            myStreak = 0;
+        }
+        myStreakIsWin = thePlayerWon;
+        myStreak++;
+
+        increment(myBanks, LogLinearBuckets.bucket(theBankBalance, SUB_BUCKET_BITS));
+    }
+
+    /**
+     * Records a roll, and the settlement of the round if the roll decided it.
+     * Called on the thread that plays the table.
+     *
+     * @param theEvent The kind of change.
+     * @param theState The state of the game after the change.
+     */
+    @Override
+    public void gameChanged(GameEvent theEvent, RollResult theState) {
+        switch (theEvent) {
+            case ROLLED -> recordRoll(theState.getTotal());
+            case ROUND_WON -> recordSettlement(true, theState.getBankBalance());
+            case ROUND_LOST -> recordSettlement(false, theState.getBankBalance());
+            default -> {
+                // Bets and bank changes are not counted.
+            }
+        }
+    }
+
+    /**
+     * Takes a snapshot of the counts. The streak still in progress is not included.
+     *
+     * @return The snapshot.
+     */
+    public StatsSnapshot snapshot() {
+        return new StatsSnapshot(copy(myTotals), copy(myRoundLengths), copy(myWinStreaks),
+                copy(myLossStreaks), copy(myBanks));
+    }
+
+    /**
+     * Adds one to a counter. Only the writer thread calls this, so a plain
+     * read followed by a release write cannot lose an update.
+     *
+     * @param theCounts The counters.
+     * @param theIndex The counter to increment.
+     */
+    private static void increment(AtomicLongArray theCounts, int theIndex) {
+        theCounts.lazySet(theIndex, theCounts.get(theIndex) + 1);
+    }
+
+    /**
+     * Copies counters into a plain array.
+     *
+     * @param theCounts The counters.
+     * @return The copy.
+     */
+    private static long[] copy(AtomicLongArray theCounts) {
+        final long[] copy = new long[theCounts.length()];
+        for (int i = 0; i < copy.length; i++) {
+            copy[i] = theCounts.get(i);
+        }
+        return copy;
+    }
+}
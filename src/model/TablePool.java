@@ -0,0 +1,321 @@
+package model;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * This class hosts many craps tables in one object.
+ * Instead of one GameLogic instance per table, every table's state is
+ * kept in parallel primitive arrays indexed by table id, and each tick
+ * advances every table by one roll in a single sweep over the arrays.
+ * The rolls follow the same rules as firstRoll and additionalRolls.
+
+ * A table whose round was decided on the previous tick starts a new
+ * round on the next one, the same way the Play Again button calls
+ * startNewGame. The automatic bet, if one is set, is placed before every
+ * come-out roll that has no bet on it yet, including a table's first.
+
+ * A bet is only taken if the bank could hold its winnings, and a bank is
+ * only set if it could hold the winnings of the open bet, so settling a
+ * round can never overflow a bank balance.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public class TablePool {
+    /**
+     * The number of bytes of state stored for each table.
+     */
+    public static final int BYTES_PER_TABLE = 3 * Byte.BYTES + 4 * Integer.BYTES;
+
+    private final int mySize;
+    private final byte[] myPoint;
+    private final byte[] myRoll;
+    private final boolean[] myScoreGained;
+    private final int[] myPlayerScore;
+    private final int[] myHouseScore;
+    private final int[] myBetAmount;
+    private final int[] myBankBalance;
+    private final SplittableRandom myRandom;
+    private int myAutoBet;
+
+    /**
+     * Constructs a new TablePool.
+     *
+     * @param theSize The number of tables.
+     * @param theRandom The random number stream used for every table's dice.
+     * @throws IllegalArgumentException If the size is negative.
+     */
+    public TablePool(int theSize, SplittableRandom theRandom) {
+        if (theSize < 0) {
+            throw new IllegalArgumentException("ONLY POSITIVE NUMBERS");
+        }
+        mySize = theSize;
+        myPoint = new byte[theSize];
+        myRoll = new byte[theSize];
+        myScoreGained = new boolean[theSize];
+        myPlayerScore = new int[theSize];
+        myHouseScore = new int[theSize];
+        myBetAmount = new int[theSize];
+        myBankBalance = new int[theSize];
+        myRandom = theRandom;
+        myAutoBet = 0;
+    }
+
+    /**
+     * Advances every table by one roll.
+     */
+    public void tick() {
+        tick(0, mySize);
+    }
+
+    /**
+     * Advances the tables in a range of ids by one roll.
+     *
+     * @param theFrom The first table id, inclusive.
+     * @param theTo The last table id, exclusive.
+     */
+    public void tick(int theFrom, int theTo) {
+        final byte[] point = myPoint;
+        final byte[] roll = myRoll;
+        final boolean[] scoreGained = myScoreGained;
+        final int[] bet = myBetAmount;
+        final int[] bank = myBankBalance;
+        final int autoBet = myAutoBet;
+
+        long bits = 0;
+        for (int table = theFrom; table < theTo; table++) {
+            if (scoreGained[table]) {
+                scoreGained[table] = false;
+                point[table] = 0;
+            }
+            if (point[table] == 0 && bet[table] == 0 && autoBet > 0 && autoBet <= bank[table]
+                    && autoBet <= Integer.MAX_VALUE - bank[table]) {
+                bet[table] = autoBet;
+                bank[table] -= autoBet;
+            }
+
+            final int outcome;
+            if (((table - theFrom) & 1) == 0) {
+                bits = myRandom.nextLong();
+                outcome = RoundSimulator.cell(bits >>> 32);
+            } else {
+                outcome = RoundSimulator.cell(bits & 0xFFFFFFFFL);
+            }
+            roll[table] = (byte) outcome;
+            final int total = Dice.total(outcome);
+            final int tablePoint = point[table];
+
+            if (tablePoint == 0) {
+                if (total == 7 || total == 11) {
+                    win(table);
+                } else if (total == 2 || total == 3 || total == 12) {
+                    lose(table);
+                } else {
+                    point[table] = (byte) total;
+                }
+            } else if (total == tablePoint) {
+                win(table);
+            } else if (total == 7) {
+                lose(table);
+            }
+        }
+    }
+
+    /**
+     * Settles a table's round as a player win, paying twice the bet like winBet.
+     *
+     * @param theTable The table id.
+     */
+    private void win(int theTable) {
+        myPlayerScore[theTable]++;
+        myScoreGained[theTable] = true;
+        myBankBalance[theTable] += myBetAmount[theTable] * 2;
+        myBetAmount[theTable] = 0;
+    }
+
+    /**
+     * Settles a table's round as a house win, forfeiting the bet like loseBet.
+     *
+     * @param theTable The table id.
+     */
+    private void lose(int theTable) {
+        myHouseScore[theTable]++;
+        myScoreGained[theTable] = true;
+        myBetAmount[theTable] = 0;
+    }
+
+    /**
+     * Adds to a table's bet and deducts it from the table's bank,
+     * following the same rules as updateBet. Bets whose winnings the
+     * bank could not hold are ignored too.
+     *
+     * @param theTable The table id.
+     * @param theBet The amount to be added to the current bet.
+     */
+    public void updateBet(int theTable, int theBet) {
+        if (theBet > 0 && theBet <= myBankBalance[theTable]
+                && canPay(myBankBalance[theTable] - theBet, myBetAmount[theTable] + (long) theBet)) {
+            myBetAmount[theTable] += theBet;
+            myBankBalance[theTable] -= theBet;
+        }
+    }
+
+    /**
+     * Sets the bet placed automatically at the start of every new round.
+     *
+     * @param theBet The automatic bet, or 0 for none.
+     * @throws IllegalArgumentException If the bet is negative.
+     */
+    public void setAutoBet(int theBet) {
+        if (theBet < 0) {
+            throw new IllegalArgumentException("ONLY POSITIVE NUMBERS");
+        }
+        myAutoBet = theBet;
+    }
+
+    /**
+     * Sets a table's bank balance.
+     *
+     * @param theTable The table id.
+     * @param theAmount The amount to set as the bank balance.
+     * @throws NumberFormatException If the specified amount is negative or
+     * too large to hold the winnings of the table's open bet.
+     */
+    public void setBankBalance(int theTable, int theAmount) {
+        if (theAmount >= 0 && canPay(theAmount, myBetAmount[theTable])) {
+            myBankBalance[theTable] = theAmount;
+        } else {
+            throw new NumberFormatException("ONLY POSITIVE NUMBERS");
+        }
+    }
+
+    /**
+     * Sets every table's bank balance.
+     *
+     * @param theAmount The amount to set as each bank balance.
+     * @throws NumberFormatException If the specified amount is negative or
+     * too large to hold the winnings of some table's open bet.
+     */
+    public void setAllBankBalances(int theAmount) {
+        if (theAmount < 0) {
+            throw new NumberFormatException("ONLY POSITIVE NUMBERS");
+        }
+        for (int bet : myBetAmount) {
+            if (!canPay(theAmount, bet)) {
+                throw new NumberFormatException("ONLY POSITIVE NUMBERS");
+            }
+        }
+        Arrays.fill(myBankBalance, theAmount);
+    }
+
+    /**
+     * Checks if a bank balance could hold the winnings of a bet, twice the bet.
+     *
+     * @param theBankBalance The bank balance, not counting the bet.
+     * @param theBet The bet.
+     * @return true if the bank balance after a win fits in an int.
+     */
+    private static boolean canPay(int theBankBalance, long theBet) {
+        return theBankBalance + 2 * theBet <= Integer.MAX_VALUE;
+    }
+
+    /**
+     * Gets the number of tables in the pool.
+     *
+     * @return The number of tables.
+     */
+    public int size() {
+        return mySize;
+    }
+
+    /**
+     * Gets a table's point.
+     *
+     * @param theTable The table id.
+     * @return The point, or 0 if none is set.
+     */
+    public int getPoint(int theTable) {
+        return myPoint[theTable];
+    }
+
+    /**
+     * Gets the first die of a table's last roll.
+     *
+     * @param theTable The table id.
+     * @return The value of the first die.
+     */
+    public int getDieOne(int theTable) {
+        return Dice.dieOne(myRoll[theTable]);
+    }
+
+    /**
+     * Gets the second die of a table's last roll.
+     *
+     * @param theTable The table id.
+     * @return The value of the second die.
+     */
+    public int getDieTwo(int theTable) {
+        return Dice.dieTwo(myRoll[theTable]);
+    }
+
+    /**
+     * Gets the total of a table's last roll.
+     *
+     * @param theTable The table id.
+     * @return The total of the dice.
+     */
+    public int getTotal(int theTable) {
+        return Dice.total(myRoll[theTable]);
+    }
+
+    /**
+     * Checks if a table's last roll decided its round.
+     *
+     * @param theTable The table id.
+     * @return true if the round was decided, false otherwise.
+     */
+    public boolean getPointGained(int theTable) {
+        return myScoreGained[theTable];
+    }
+
+    /**
+     * Gets the number of wins by the player at a table.
+     *
+     * @param theTable The table id.
+     * @return The number of player wins.
+     */
+    public int getPlayerWins(int theTable) {
+        return myPlayerScore[theTable];
+    }
+
+    /**
+     * Gets the number of wins by the house at a table.
+     *
+     * @param theTable The table id.
+     * @return The number of house wins.
+     */
+    public int getHouseWins(int theTable) {
+        return myHouseScore[theTable];
+    }
+
+    /**
+     * Gets a table's current bet.
+     *
+     * @param theTable The table id.
+     * @return The current bet amount.
+     */
+    public int getBet(int theTable) {
+        return myBetAmount[theTable];
+    }
+
+    /**
+     * Gets a table's bank balance.
+     *
+     * @param theTable The table id.
+     * @return The bank balance.
+     */
+    public int getBankBalance(int theTable) {
+        return myBankBalance[theTable];
+    }
+}
@@ -0,0 +1,231 @@
+package model;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * This class checkpoints the state of many tables to one file and restores it.
+ * Every table is packed into a fixed 24-byte record, and records are moved
+ * between the file and a direct buffer through a FileChannel in large chunks.
+
+ * The snapshot stores the last journal sequence number it covers, so a
+ * table population can be recovered to any later point by restoring the
+ * snapshot and replaying the tail of the journal.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public final class TableSnapshot {
+    /**
+     * The size of one table's record in bytes.
+     */
+    public static final int RECORD_SIZE = 24;
+
+    private static final int MAGIC = 0x43525331;
+    private static final int HEADER_SIZE = 24;
+    private static final int CHUNK_RECORDS = 1 << 14;
+    private static final int HAS_ROLLED = 1;
+    private static final int SCORE_GAINED = 2;
+
+    private final Map<Integer, GameLogic> myTables;
+    private final long myJournalSequence;
+
+    /**
+     * Constructs a new TableSnapshot.
+     *
+     * @param theTables The tables by table id.
+     * @param theJournalSequence The last journal sequence number the tables include.
+     */
+    private TableSnapshot(Map<Integer, GameLogic> theTables, long theJournalSequence) {
+        myTables = theTables;
+        myJournalSequence = theJournalSequence;
+    }
+
+    /**
+     * Gets the restored tables.
+     *
+     * @return The tables by table id.
+     */
+    public Map<Integer, GameLogic> getTables() {
+        return myTables;
+    }
+
+    /**
+     * Gets the last journal sequence number the snapshot includes.
+     *
+     * @return The journal sequence number, or 0 if no journal was used.
+     */
+    public long getJournalSequence() {
+        return myJournalSequence;
+    }
+
+    /**
+     * Writes every table to a snapshot file. The file is written next to its
+     * final name and moved into place, so a crash never leaves half a snapshot.
+     *
+     * @param thePath The snapshot file.
+     * @param theTables The tables by table id.
+     * @param theJournalSequence The last journal sequence number the tables include.
+     * @throws IOException If the file cannot be written.
+     */
+    public static void write(Path thePath, Map<Integer, GameLogic> theTables, long theJournalSequence)
+            throws IOException {
+        final Path temporary = thePath.resolveSibling(thePath.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            final ByteBuffer buffer = ByteBuffer.allocateDirect(CHUNK_RECORDS * RECORD_SIZE)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+
+            buffer.putInt(MAGIC).putInt(RECORD_SIZE).putInt(theTables.size()).putInt(0)
+                    .putLong(theJournalSequence);
+            for (Map.Entry<Integer, GameLogic> entry : theTables.entrySet()) {
+                if (buffer.remaining() < RECORD_SIZE) {
+                    drain(channel, buffer);
+                }
+                pack(buffer, entry.getKey(), entry.getValue());
+            }
+            drain(channel, buffer);
+            channel.force(false);
+        }
+        Files.move(temporary, thePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Reads every table from a snapshot file. Restored tables roll with a
+     * ReplayDiceSource, so a journal tail can be replayed into them.
+     *
+     * @param thePath The snapshot file.
+     * @return The restored snapshot.
+     * @throws IOException If the file cannot be read or is not a snapshot.
+     */
+    public static TableSnapshot read(Path thePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(thePath, StandardOpenOption.READ)) {
+            final ByteBuffer buffer = ByteBuffer.allocateDirect(CHUNK_RECORDS * RECORD_SIZE)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            buffer.limit(HEADER_SIZE);
+            fill(channel, buffer);
+            if (buffer.getInt() != MAGIC || buffer.getInt() != RECORD_SIZE) {
+                throw new IOException("Not a table snapshot");
+            }
+            final int count = buffer.getInt();
+            buffer.getInt();
+            final long journalSequence = buffer.getLong();
+
+            final SplittableRandom random = new SplittableRandom();
+            final Map<Integer, GameLogic> tables = new HashMap<>(count * 4 / 3 + 1);
+            int remaining = count;
+            while (remaining > 0) {
+                final int batch = Math.min(remaining, CHUNK_RECORDS);
+                buffer.clear().limit(batch * RECORD_SIZE);
+                fill(channel, buffer);
+                for (int i = 0; i < batch; i++) {
+                    final GameLogic table = new GameLogic(
+                            new ReplayDiceSource(new LookupDiceSource(random.split())));
+                    tables.put(unpack(buffer, table), table);
+                }
+                remaining -= batch;
+            }
+            return new TableSnapshot(tables, journalSequence);
+        }
+    }
+
+    /**
+     * Recovers tables to the end of a journal by restoring a snapshot and
+     * replaying the journal records written after it.
+     *
+     * @param theSnapshot The snapshot file.
+     * @param theJournal The journal file.
+     * @return The recovered tables by table id.
+     * @throws IOException If either file cannot be read.
+     */
+    public static Map<Integer, GameLogic> recover(Path theSnapshot, Path theJournal) throws IOException {
+        final TableSnapshot snapshot = read(theSnapshot);
+        try (JournalReader reader = new JournalReader(theJournal)) {
+            reader.replay(snapshot.getTables(), snapshot.getJournalSequence());
+        }
+        return snapshot.getTables();
+    }
+
+    /**
+     * Packs one table into the buffer.
+     *
+     * @param theBuffer The buffer to write to.
+     * @param theId The table id.
+     * @param theTable The table.
+     */
+    private static void pack(ByteBuffer theBuffer, int theId, GameLogic theTable) {
+        final int flags = (theTable.getHasRolled() ? HAS_ROLLED : 0)
+                | (theTable.getPointGained() ? SCORE_GAINED : 0);
+        theBuffer.putInt(theId)
+                .putInt(theTable.getPlayerWins())
+                .putInt(theTable.getHouseWins())
+                .putInt(theTable.getBankBalance())
+                .putInt(theTable.getBet())
+                .put((byte) theTable.getPoint())
+                .put((byte) theTable.getDieOne())
+                .put((byte) theTable.getDieTwo())
+                .put((byte) flags);
+    }
+
+    /**
+     * Unpacks one table from the buffer.
+     *
+     * @param theBuffer The buffer to read from.
+     * @param theTable The table to restore into.
+     * @return The table id.
+     */
+    private static int unpack(ByteBuffer theBuffer, GameLogic theTable) {
+        final int id = theBuffer.getInt();
+        final int playerScore = theBuffer.getInt();
+        final int houseScore = theBuffer.getInt();
+        final int bank = theBuffer.getInt();
+        final int bet = theBuffer.getInt();
+        final int point = theBuffer.get();
+        final int dieOne = theBuffer.get();
+        final int dieTwo = theBuffer.get();
+        final int flags = theBuffer.get();
+        theTable.restoreState(point, dieOne, dieTwo, playerScore, houseScore,
+                (flags & HAS_ROLLED) != 0, (flags & SCORE_GAINED) != 0, bank, bet);
+        return id;
+    }
+
+    /**
+     * Writes everything in the buffer to the channel and clears it.
+     *
+     * @param theChannel The channel to write to.
+     * @param theBuffer The buffer holding the data.
+     * @throws IOException If the channel cannot be written.
+     */
+    private static void drain(FileChannel theChannel, ByteBuffer theBuffer) throws IOException {
+        theBuffer.flip();
+        while (theBuffer.hasRemaining()) {
+            theChannel.write(theBuffer);
+        }
+        theBuffer.clear();
+    }
+
+    /**
+     * Reads from the channel until the buffer is full, then flips it for reading.
+     *
+     * @param theChannel The channel to read from.
+     * @param theBuffer The buffer to fill up to its limit.
+     * @throws IOException If the channel cannot be read or ends early.
+     */
+    private static void fill(FileChannel theChannel, ByteBuffer theBuffer) throws IOException {
+        while (theBuffer.hasRemaining()) {
+            if (theChannel.read(theBuffer) < 0) {
+                throw new IOException("Snapshot is truncated");
+            }
+        }
+        theBuffer.flip();
+    }
+}
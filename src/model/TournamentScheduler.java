@@ -0,0 +1,324 @@
+package model;
+
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * This class runs a tournament in which every player is a bot playing its
+ * own GameLogic table with its own betting strategy.
+ * Sessions are time-sliced in waves: in every wave each unfinished session
+ * plays one slice of SLICE_ROUNDS rounds, and the slices of a wave are
+ * split across a work-stealing ForkJoinPool so idle workers take slices
+ * from busy ones. No session starts its next slice before every other
+ * session has played its current one, so all sessions advance at the
+ * same pace no matter how the pool schedules them.
+
+ * Each session stops at its round quota, its stop-loss or stop-win, when
+ * the strategy stops betting, or when the tournament's time budget runs
+ * out. The time budget is only checked between waves, so every session
+ * still playing when it runs out has played the same number of rounds.
+
+ * After each slice a session publishes its standing to a shared
+ * AtomicLongArray, and the thread that started the tournament builds a
+ * Leaderboard from it at every checkpoint while play continues. Player p
+ * rolls from position p * 2^40 of one CounterDiceSource sequence, so a
+ * tournament without a time budget ends the same for any number of threads.
+ * If a strategy throws, the tournament stops and run throws the same exception.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public class TournamentScheduler {
+    /**
+     * The number of rounds a session plays before yielding its worker.
+     */
+    public static final int SLICE_ROUNDS = 32;
+
+    private static final int PLAYER_SHIFT = 40;
+
+    private final int myParallelism;
+    private final long myCheckpointMillis;
+    private final Consumer<Leaderboard> myCheckpoint;
+
+    /**
+     * Constructs a new TournamentScheduler that takes no checkpoints.
+     *
+     * @param theParallelism The number of worker threads.
+     */
+    public TournamentScheduler(int theParallelism) {
+        this(theParallelism, 0, board -> { });
+    }
+
+    /**
+     * Constructs a new TournamentScheduler.
+     *
+     * @param theParallelism The number of worker threads.
+     * @param theCheckpointMillis The time between two checkpoints, or 0 for none.
+     * @param theCheckpoint The action given the leaderboard at every checkpoint.
+     * @throws IllegalArgumentException If the parallelism is not positive or the interval is negative.
+     */
+    public TournamentScheduler(int theParallelism, long theCheckpointMillis, Consumer<Leaderboard> theCheckpoint) {
+        if (theParallelism <= 0 || theCheckpointMillis < 0) {
+            throw new IllegalArgumentException("ONLY POSITIVE NUMBERS");
+        }
+        myParallelism = theParallelism;
+        myCheckpointMillis = theCheckpointMillis;
+        myCheckpoint = theCheckpoint;
+    }
+
+    /**
+     * Plays a tournament with one player per strategy and waits for every session to finish.
+     *
+     * @param theStrategies The betting strategy of each player.
+     * @param theConfig The bank, base bet, stop-loss, stop-win and round quota of every session.
+     * @param theSeed The seed of the dice sequence.
+     * @param theTimeBudgetMillis The most time the tournament may take, or 0 for no limit.
+     * @return The final leaderboard.
+     * @throws IllegalArgumentException If the starting bank does not fit a table's bank or
+     * the time budget is negative.
+     * @throws RuntimeException If a strategy throws while the tournament is playing.
+     */
+    public Leaderboard run(BettingStrategy[] theStrategies, SessionConfig theConfig, long theSeed,
+                           long theTimeBudgetMillis) {
+        if (theConfig.getStartingBank() > Integer.MAX_VALUE || theTimeBudgetMillis < 0) {
+            throw new IllegalArgumentException("ONLY POSITIVE NUMBERS");
+        }
+        final int players = theStrategies.length;
+        final AtomicLongArray standings = new AtomicLongArray(2 * players);
+        final long start = System.nanoTime();
+        final long budget = theTimeBudgetMillis > 0
+                ? TimeUnit.MILLISECONDS.toNanos(theTimeBudgetMillis) : Long.MAX_VALUE;
+
+        final Session[] sessions = new Session[players];
+        for (int player = 0; player < players; player++) {
+            sessions[player] = new Session(player, theStrategies[player], theConfig, theSeed, standings);
+            sessions[player].publish(false);
+        }
+
+        final ForkJoinPool pool = new ForkJoinPool(myParallelism);
+        try {
+            final ForkJoinTask<?> waves = pool.submit(() -> playWaves(pool, sessions, start, budget));
+            awaitWithCheckpoints(waves, standings, start);
+            waves.join();
+        } finally {
+            pool.shutdown();
+        }
+        return new Leaderboard(standings, System.nanoTime() - start);
+    }
+
+    /**
+     * Plays waves until every session has finished or the time budget has run
+     * out, then finishes the sessions still playing.
+     *
+     * @param thePool The pool the slices run on.
+     * @param theSessions The sessions.
+     * @param theStart The time the tournament started.
+     * @param theBudget The time after the start at which no new wave starts.
+     */
+    private static void playWaves(ForkJoinPool thePool, Session[] theSessions, long theStart, long theBudget) {
+        Session[] playing = theSessions;
+        while (playing.length > 0 && System.nanoTime() - theStart < theBudget) {
+            thePool.invoke(new Wave(playing, 0, playing.length));
+            int stillPlaying = 0;
+            for (Session session : playing) {
+                if (!session.isFinished()) {
+                    playing[stillPlaying++] = session;
+                }
+            }
+            playing = Arrays.copyOf(playing, stillPlaying);
+        }
+        for (Session session : playing) {
+            session.finish();
+        }
+    }
+
+    /**
+     * Waits for the waves to end, normally or not, giving the checkpoint
+     * action a leaderboard every checkpoint interval in the meantime.
+     *
+     * @param theWaves The task playing the waves.
+     * @param theStandings The shared standings.
+     * @param theStart The time the tournament started.
+     */
+    private void awaitWithCheckpoints(ForkJoinTask<?> theWaves, AtomicLongArray theStandings,
+                                      long theStart) {
+        if (myCheckpointMillis == 0) {
+            theWaves.quietlyJoin();
+            return;
+        }
+        boolean interrupted = false;
+        while (!theWaves.isDone()) {
+            try {
+                theWaves.get(myCheckpointMillis, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                myCheckpoint.accept(new Leaderboard(theStandings, System.nanoTime() - theStart));
+            } catch (ExecutionException e) {
+                // The caller rethrows it from the task.
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * One player's session: the table, the strategy and the session's progress.
+     * Only one slice of a session runs at a time, and waves are ordered by
+     * the pool's invoke, so the fields need no locking.
+     */
+    private static final class Session {
+        private final int myPlayer;
+        private final GameLogic myGame;
+        private final BettingStrategy myStrategy;
+        private final int myBaseBet;
+        private final int myMaxRounds;
+        private final long myFloor;
+        private final long myTarget;
+        private final AtomicLongArray myStandings;
+        private int myRounds;
+        private int myLastBet;
+        private boolean myLastWon;
+        private boolean myFinished;
+
+        /**
+         * Constructs a new Session with a funded table.
+         *
+         * @param thePlayer The player number.
+         * @param theStrategy The player's betting strategy.
+         * @param theConfig The limits of the session.
+         * @param theSeed The seed of the dice sequence.
+         * @param theStandings The shared standings.
+         */
+        Session(int thePlayer, BettingStrategy theStrategy, SessionConfig theConfig, long theSeed,
+                AtomicLongArray theStandings) {
+            myPlayer = thePlayer;
+            myGame = new GameLogic(theSeed, (long) thePlayer << PLAYER_SHIFT);
+            myGame.setBankBalance((int) theConfig.getStartingBank());
+            myStrategy = theStrategy;
+            myBaseBet = theConfig.getBaseBet();
+            myMaxRounds = theConfig.getMaxRounds();
+            myFloor = theConfig.getStopLoss() > 0
+                    ? theConfig.getStartingBank() - theConfig.getStopLoss() : Long.MIN_VALUE;
+            myTarget = theConfig.getStopWin() > 0
+                    ? theConfig.getStartingBank() + theConfig.getStopWin() : Long.MAX_VALUE;
+            myStandings = theStandings;
+        }
+
+        /**
+         * Plays up to SLICE_ROUNDS rounds, the same way auto play does:
+         * startNewGame, a bet from the strategy capped at the bank, then
+         * rolls until the round is decided.
+         *
+         * @return true if the session has reached one of its limits.
+         */
+        private boolean playRounds() {
+            final GameLogic game = myGame;
+            final int end = Math.min(myMaxRounds, myRounds + SLICE_ROUNDS);
+            while (myRounds < end) {
+                final int bank = game.getBankBalance();
+                if (bank <= myFloor || bank >= myTarget) {
+                    return true;
+                }
+                final int bet = Math.min(myStrategy.nextBet(myBaseBet, myLastBet, myLastWon, bank), bank);
+                if (bet <= 0) {
+                    return true;
+                }
+                game.startNewGame();
+                game.updateBet(bet);
+                final int playerWins = game.getPlayerWins();
+                do {
+                    game.getGenericRoll();
+                } while (!game.getPointGained());
+                myLastBet = bet;
+                myLastWon = game.getPlayerWins() != playerWins;
+                myRounds++;
+            }
+            return myRounds >= myMaxRounds;
+        }
+
+        /**
+         * Plays one slice and publishes the standing after it.
+         */
+        void playSlice() {
+            if (playRounds()) {
+                finish();
+            } else {
+                publish(false);
+            }
+        }
+
+        /**
+         * Checks if the session has finished.
+         *
+         * @return true if the session has finished.
+         */
+        boolean isFinished() {
+            return myFinished;
+        }
+
+        /**
+         * Publishes the session's standing without waiting for readers.
+         *
+         * @param theFinished true if the session has finished.
+         */
+        void publish(boolean theFinished) {
+            myStandings.lazySet(2 * myPlayer,
+                    (long) myGame.getPlayerWins() << 32 | (myGame.getBankBalance() & 0xFFFFFFFFL));
+            myStandings.lazySet(2 * myPlayer + 1, theFinished ? ~(long) myRounds : myRounds);
+        }
+
+        /**
+         * Marks the session as finished.
+         */
+        void finish() {
+            myFinished = true;
+            publish(true);
+        }
+    }
+
+    /**
+     * A task that plays one slice of each session in a range, splitting the
+     * range in half until it is small enough to play on one worker.
+     */
+    private static final class Wave extends RecursiveAction {
+        private static final int THRESHOLD = 16;
+
+        private final Session[] mySessions;
+        private final int myFrom;
+        private final int myTo;
+
+        /**
+         * Constructs a new Wave.
+         *
+         * @param theSessions The sessions.
+         * @param theFrom The first session in the range.
+         * @param theTo The session after the last in the range.
+         */
+        Wave(Session[] theSessions, int theFrom, int theTo) {
+            mySessions = theSessions;
+            myFrom = theFrom;
+            myTo = theTo;
+        }
+
+        @Override
+        protected void compute() {
+            if (myTo - myFrom <= THRESHOLD) {
+                for (int i = myFrom; i < myTo; i++) {
+                    mySessions[i].playSlice();
+                }
+                return;
+            }
+            final int middle = (myFrom + myTo) >>> 1;
+            invokeAll(new Wave(mySessions, myFrom, middle), new Wave(mySessions, middle, myTo));
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package model;
+
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * A BatchEngine that plays one round in each lane of a LongVector, so
+ * 8 rounds advance together with AVX-512 (4 with AVX2).
+ * Each lane hashes its own counter with the SplitMix64 finalizer, scales
+ * it into one of the 36 outcomes and turns that into a total, the same
+ * way CounterDiceSource and Dice do. Lane masks then apply the 7/11 and
+ * 2/3/12 checks of firstRoll, or the point-hit and seven-out checks of
+ * additionalRolls, depending on whether the lane has a point.
+
+ * Each lane owns an equal, contiguous share of the rounds and starts its
+ * next round as soon as one is decided, so no lane idles waiting for a
+ * long round in another lane. Tallies are kept in vector lanes and only
+ * summed at the end. Rounds left over after the equal shares are played
+ * by the scalar engine.
+
+ * This class needs --add-modules jdk.incubator.vector when compiling and
+ * running. The incubator API on JDK 17 still boxes vectors that are carried
+ * around a loop, so the scalar engine is as fast or faster there; select
+ * this engine with -Dcraps.engine=vector and compare with BatchBenchmark.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+final class VectorBatchEngine implements BatchEngine {
+    private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+    private static final LongVector ZERO = LongVector.zero(SPECIES);
+    private static final LongVector ONE = LongVector.broadcast(SPECIES, 1);
+
+    private final BatchEngine myTail = new ScalarBatchEngine();
+
+    @Override
+    public SimulationResult play(long theSeed, long theFrom, long theTo) {
+        final long start = System.nanoTime();
+        final long key = CounterDiceSource.mix(theSeed);
+        final int lanes = SPECIES.length();
+        final long rounds = Math.max(0, theTo - theFrom);
+        final long perLane = rounds / lanes;
+
+        LongVector round = ZERO.addIndex(1).mul(perLane).add(theFrom);
+        final LongVector limit = round.add(perLane);
+        LongVector counter = firstRoll(round, key);
+        LongVector point = ZERO;
+        LongVector playerWins = ZERO;
+        LongVector pointsEstablished = ZERO;
+        LongVector rolls = ZERO;
+
+        while (true) {
+            // Only vectors are carried around the loop; a mask carried from one
+            // iteration to the next is boxed on every iteration.
+            final VectorMask<Long> live = round.lt(limit);
+            if (!live.anyTrue()) {
+                break;
+            }
+            final LongVector total = total(counter);
+            final VectorMask<Long> comeOut = point.eq(0);
+            final VectorMask<Long> seven = total.eq(7);
+            final VectorMask<Long> eleven = total.eq(11);
+            final VectorMask<Long> craps = total.lt(4).or(total.eq(12));
+            // A lane at the come-out has point 0, which no total matches.
+            final VectorMask<Long> hit = total.eq(point);
+
+            final VectorMask<Long> won = hit.or(comeOut.and(seven.or(eleven))).and(live);
+            final VectorMask<Long> decided = hit.or(seven).or(comeOut.and(craps.or(eleven))).and(live);
+            final VectorMask<Long> established = comeOut.andNot(seven.or(eleven).or(craps)).and(live);
+
+            rolls = rolls.add(ZERO.blend(ONE, live));
+            playerWins = playerWins.add(ZERO.blend(ONE, won));
+            pointsEstablished = pointsEstablished.add(ZERO.blend(ONE, established));
+
+            point = point.blend(total, established).blend(ZERO, decided);
+            round = round.add(ZERO.blend(ONE, decided));
+            counter = counter.add(CounterDiceSource.GOLDEN_GAMMA).blend(firstRoll(round, key), decided);
+        }
+
+        final SimulationResult tail = myTail.play(theSeed, theFrom + perLane * lanes, theTo);
+        final long wins = playerWins.reduceLanes(VectorOperators.ADD) + tail.getPlayerWins();
+        return new SimulationResult(rounds, wins, rounds - wins,
+                pointsEstablished.reduceLanes(VectorOperators.ADD) + tail.getPointsEstablished(),
+                rolls.reduceLanes(VectorOperators.ADD) + tail.getRolls(),
+                0, 0, System.nanoTime() - start);
+    }
+
+    /**
+     * Computes each lane's counter for the come-out roll of a round.
+     *
+     * @param theRound Each lane's round number.
+     * @param theKey The mixed seed.
+     * @return The mixed seed plus the round's first position times the golden gamma.
+     */
+    private static LongVector firstRoll(LongVector theRound, long theKey) {
+        return theRound.lanewise(VectorOperators.LSHL, 32).mul(CounterDiceSource.GOLDEN_GAMMA).add(theKey);
+    }
+
+    /**
+     * Computes the total of the roll at each lane's counter.
+     *
+     * @param theCounter The mixed seed plus each roll's position times the golden gamma.
+     * @return The total of each lane's dice, 2 to 12.
+     */
+    private static LongVector total(LongVector theCounter) {
+        LongVector z = theCounter;
+        z = z.lanewise(VectorOperators.XOR, z.lanewise(VectorOperators.LSHR, 30)).mul(0xBF58476D1CE4E5B9L);
+        z = z.lanewise(VectorOperators.XOR, z.lanewise(VectorOperators.LSHR, 27)).mul(0x94D049BB133111EBL);
+        z = z.lanewise(VectorOperators.XOR, z.lanewise(VectorOperators.LSHR, 31));
+
+        final LongVector high = z.lanewise(VectorOperators.LSHR, 32).mul(Dice.OUTCOMES);
+        final LongVector low = z.and(0xFFFFFFFFL).mul(Dice.OUTCOMES);
+        final LongVector outcome = high.add(low.lanewise(VectorOperators.LSHR, 32))
+                .lanewise(VectorOperators.LSHR, 32);
+
+        // outcome / 6 is (outcome * 43) >> 8 for every outcome from 0 to 35,
+        // and the total is (outcome / 6 + 1) + (outcome % 6 + 1).
+        final LongVector dieOne = outcome.mul(43).lanewise(VectorOperators.LSHR, 8);
+        return outcome.sub(dieOne.mul(5)).add(2);
+    }
+}
@@ -0,0 +1,199 @@
+package server;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Drives a TableServer over loopback with many concurrent clients.
+ * Every client runs on its own virtual thread, opens its own connection,
+ * funds its table and then plays rounds, timing every ROLL request.
+ * The roll latencies of all clients are merged and reported as percentiles.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public class LoadGenerator {
+    private static final int DEFAULT_CLIENTS = 10_000;
+    private static final int DEFAULT_ROLLS = 100;
+
+    private final int myPort;
+    private final int myClients;
+    private final int myRollsPerClient;
+
+    /**
+     * Constructs a new LoadGenerator.
+     *
+     * @param thePort The loopback port of the server.
+     * @param theClients The number of concurrent clients.
+     * @param theRollsPerClient The number of ROLL requests each client makes.
+     */
+    public LoadGenerator(int thePort, int theClients, int theRollsPerClient) {
+        myPort = thePort;
+        myClients = theClients;
+        myRollsPerClient = theRollsPerClient;
+    }
+
+    /**
+     * Runs every client to completion and prints the latency report.
+     *
+     * @throws InterruptedException If interrupted while waiting for the clients.
+     */
+    public void run() throws InterruptedException {
+        final long[][] latencies = new long[myClients][];
+        final AtomicInteger failures = new AtomicInteger();
+        final CountDownLatch done = new CountDownLatch(myClients);
+
+        final long start = System.nanoTime();
+        final ExecutorService executor = VirtualThreads.newThreadPerTaskExecutor();
+        try {
+            for (int i = 0; i < myClients; i++) {
+                final int client = i;
+                executor.execute(() -> {
+                    try {
+                        latencies[client] = playClient();
+                    } catch (IOException e) {
+                        failures.incrementAndGet();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            done.await();
+        } finally {
+            executor.shutdown();
+        }
+        final long elapsed = System.nanoTime() - start;
+
+        report(merge(latencies), failures.get(), elapsed);
+    }
+
+    /**
+     * Plays one client's session and times each roll.
+     *
+     * @return The latency of each ROLL request in nanoseconds.
+     * @throws IOException If the connection fails.
+     */
+    private long[] playClient() throws IOException {
+        final long[] latencies = new long[myRollsPerClient];
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), myPort);
+             BufferedReader in = new BufferedReader(
+                     new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+             Writer out = new BufferedWriter(
+                     new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.US_ASCII))) {
+            socket.setTcpNoDelay(true);
+            request(in, out, "BANK 1000");
+
+            for (int i = 0; i < myRollsPerClient; i++) {
+                final long start = System.nanoTime();
+                final String response = request(in, out, "ROLL");
+                latencies[i] = System.nanoTime() - start;
+
+                // The sixth field is 1 once the roll decided the round.
+                if (response.split(" ")[5].equals("1")) {
+                    request(in, out, "NEW");
+                }
+            }
+            out.write("QUIT\n");
+            out.flush();
+        }
+        return latencies;
+    }
+
+    /**
+     * Sends one command and waits for its response.
+     *
+     * @param theIn The connection's reader.
+     * @param theOut The connection's writer.
+     * @param theCommand The command to send.
+     * @return The response line.
+     * @throws IOException If the connection fails or the server rejects the command.
+     */
+    private static String request(BufferedReader theIn, Writer theOut, String theCommand) throws IOException {
+        theOut.write(theCommand);
+        theOut.write('\n');
+        theOut.flush();
+        final String response = theIn.readLine();
+        if (response == null || !response.startsWith("OK")) {
+            throw new IOException("Request " + theCommand + " failed: " + response);
+        }
+        return response;
+    }
+
+    /**
+     * Merges the latencies of every client into one sorted array.
+     *
+     * @param theLatencies The latencies of each client, null for failed clients.
+     * @return The sorted latencies.
+     */
+    private static long[] merge(long[][] theLatencies) {
+        int count = 0;
+        for (long[] latencies : theLatencies) {
+            count += latencies == null ? 0 : latencies.length;
+        }
+        final long[] merged = new long[count];
+        int position = 0;
+        for (long[] latencies : theLatencies) {
+            if (latencies != null) {
+                System.arraycopy(latencies, 0, merged, position, latencies.length);
+                position += latencies.length;
+            }
+        }
+        Arrays.sort(merged);
+        return merged;
+    }
+
+    /**
+     * Prints the throughput and latency percentiles of the run.
+     *
+     * @param theLatencies The sorted roll latencies.
+     * @param theFailures The number of clients that failed.
+     * @param theElapsedNanos The wall-clock time of the run.
+     */
+    private void report(long[] theLatencies, int theFailures, long theElapsedNanos) {
+        System.out.printf("clients=%d failed=%d rolls=%d rolls/sec=%.0f%n", myClients, theFailures,
+                theLatencies.length, theLatencies.length * 1e9 / theElapsedNanos);
+        if (theLatencies.length > 0) {
+            System.out.printf("roll latency p50=%.1fus p99=%.1fus p99.9=%.1fus max=%.1fus%n",
+                    percentile(theLatencies, 0.50) / 1e3, percentile(theLatencies, 0.99) / 1e3,
+                    percentile(theLatencies, 0.999) / 1e3, theLatencies[theLatencies.length - 1] / 1e3);
+        }
+    }
+
+    /**
+     * Reads a percentile from sorted values.
+     *
+     * @param theSorted The sorted values.
+     * @param theFraction The percentile as a fraction, such as 0.99.
+     * @return The value at the percentile.
+     */
+    private static long percentile(long[] theSorted, double theFraction) {
+        final int index = (int) Math.ceil(theFraction * theSorted.length) - 1;
+        return theSorted[Math.max(0, index)];
+    }
+
+    /**
+     * Starts a server on a free loopback port and drives it with the load generator.
+     *
+     * @param args An optional client count followed by an optional rolls-per-client count.
+     * @throws IOException If the server cannot be started.
+     * @throws InterruptedException If interrupted while waiting for the clients.
+     */
+    public static void main(String... args) throws IOException, InterruptedException {
+        final int clients = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_CLIENTS;
+        final int rolls = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_ROLLS;
+        try (TableServer server = new TableServer(0)) {
+            new LoadGenerator(server.getPort(), clients, rolls).run();
+        }
+    }
+}
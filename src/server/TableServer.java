@@ -0,0 +1,226 @@
+package server;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import metrics.GameMetrics;
+import metrics.MeteredGameLogic;
+import model.GameLogic;
+import model.RandomDiceSource;
+
+/**
+ * A small TCP server that hosts one craps table per client connection.
+ * It listens on the loopback address unless another address is given.
+ * Every connection is served on its own virtual thread, and the
+ * connection's GameLogic instance is never touched by any other thread,
+ * so no locks are needed. When metrics are enabled every table counts
+ * into the shared JMX metrics.
+
+ * The protocol is one command per line, answered with one line:
+ * ROLL, BET amount, BANK amount, NEW, RESET, STATE and QUIT. Every
+ * successful command answers with the table state as
+ * "OK dieOne dieTwo total point gained playerWins houseWins bet bank",
+ * and a failed command answers with "ERR" and a message.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public class TableServer implements Closeable {
+    /**
+     * The port the server listens on when none is given.
+     */
+    public static final int DEFAULT_PORT = 7777;
+
+    private final ServerSocket myServerSocket;
+    private final ExecutorService myExecutor;
+    private final Thread myAcceptThread;
+
+    /**
+     * Constructs a new TableServer on the loopback address and starts accepting connections.
+     *
+     * @param thePort The port to listen on, or 0 for any free port.
+     * @throws IOException If the server socket cannot be opened.
+     */
+    public TableServer(int thePort) throws IOException {
+        this(thePort, InetAddress.getLoopbackAddress());
+    }
+
+    /**
+     * Constructs a new TableServer and starts accepting connections.
+     *
+     * @param thePort The port to listen on, or 0 for any free port.
+     * @param theAddress The local address to listen on.
+     * @throws IOException If the server socket cannot be opened.
+     */
+    public TableServer(int thePort, InetAddress theAddress) throws IOException {
+        myServerSocket = new ServerSocket(thePort, 16_384, theAddress);
+        myExecutor = VirtualThreads.newThreadPerTaskExecutor();
+        myAcceptThread = new Thread(this::acceptConnections, "table-server-accept");
+        myAcceptThread.start();
+    }
+
+    /**
+     * Gets the port the server is listening on.
+     *
+     * @return The local port.
+     */
+    public int getPort() {
+        return myServerSocket.getLocalPort();
+    }
+
+    /**
+     * Gets the address the server is listening on.
+     *
+     * @return The local address.
+     */
+    public InetAddress getAddress() {
+        return myServerSocket.getInetAddress();
+    }
+
+    /**
+     * Accepts connections until the server socket is closed.
+     */
+    private void acceptConnections() {
+        while (!myServerSocket.isClosed()) {
+            try {
+                Socket socket = myServerSocket.accept();
+                socket.setTcpNoDelay(true);
+                myExecutor.execute(() -> serve(socket));
+            } catch (SocketException e) {
+                // The server socket was closed.
+                return;
+            } catch (IOException e) {
+                System.err.println("Accept failed: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Serves one connection with its own table until the client quits or disconnects.
+     *
+     * @param theSocket The client connection.
+     */
+    private void serve(Socket theSocket) {
+        final GameLogic gameLogic = GameMetrics.isEnabled()
+                ? new MeteredGameLogic(new RandomDiceSource(new Random()), GameMetrics.getPlatformInstance())
+                : new GameLogic();
+        try (theSocket;
+             BufferedReader in = new BufferedReader(
+                     new InputStreamReader(theSocket.getInputStream(), StandardCharsets.US_ASCII));
+             Writer out = new BufferedWriter(
+                     new OutputStreamWriter(theSocket.getOutputStream(), StandardCharsets.US_ASCII))) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                if ("QUIT".equals(line)) {
+                    return;
+                }
+                out.write(handle(gameLogic, line));
+                out.write('\n');
+                out.flush();
+            }
+        } catch (IOException e) {
+            // The client disconnected.
+        } finally {
+            if (gameLogic instanceof MeteredGameLogic metered) {
+                metered.flush();
+            }
+        }
+    }
+
+    /**
+     * Applies one command to a table.
+     *
+     * @param theGameLogic The table owned by the connection.
+     * @param theCommand The command line sent by the client.
+     * @return The response line.
+     */
+    public static String handle(GameLogic theGameLogic, String theCommand) {
+        final String[] parts = theCommand.trim().split(" ");
+        try {
+            switch (parts[0]) {
+                case "ROLL" -> {
+                    if (theGameLogic.getPointGained()) {
+                        return "ERR ROUND OVER";
+                    }
+                    theGameLogic.getGenericRoll();
+                }
+                case "BET" -> {
+                    final int bet = theGameLogic.getBet();
+                    theGameLogic.updateBet(Integer.parseInt(parts[1]));
+                    if (theGameLogic.getBet() == bet) {
+                        return "ERR INVALID BET";
+                    }
+                }
+                case "BANK" -> theGameLogic.setBankBalance(Integer.parseInt(parts[1]));
+                case "NEW" -> theGameLogic.startNewGame();
+                case "RESET" -> theGameLogic.resetGame();
+                case "STATE" -> {
+                    // Only report the state.
+                }
+                default -> {
+                    return "ERR UNKNOWN COMMAND";
+                }
+            }
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            return "ERR INVALID AMOUNT";
+        } catch (ArithmeticException e) {
+            return "ERR BANK FULL";
+        }
+        return state(theGameLogic);
+    }
+
+    /**
+     * Formats the state of a table as a response line.
+     *
+     * @param theGameLogic The table.
+     * @return The response line.
+     */
+    private static String state(GameLogic theGameLogic) {
+        return "OK " + theGameLogic.getDieOne()
+                + ' ' + theGameLogic.getDieTwo()
+                + ' ' + theGameLogic.getTotal()
+                + ' ' + theGameLogic.getPoint()
+                + ' ' + (theGameLogic.getPointGained() ? 1 : 0)
+                + ' ' + theGameLogic.getPlayerWins()
+                + ' ' + theGameLogic.getHouseWins()
+                + ' ' + theGameLogic.getBet()
+                + ' ' + theGameLogic.getBankBalance();
+    }
+
+    /**
+     * Stops accepting connections and closes the server.
+     *
+     * @throws IOException If the server socket cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        myServerSocket.close();
+        myExecutor.shutdownNow();
+    }
+
+    /**
+     * Starts the server and keeps it running until the process is stopped.
+     *
+     * @param args An optional port number and an optional address to listen on.
+     * @throws IOException If the server socket cannot be opened.
+     */
+    public static void main(String... args) throws IOException {
+        final int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        final InetAddress address = args.length > 1
+                ? InetAddress.getByName(args[1]) : InetAddress.getLoopbackAddress();
+        final TableServer server = new TableServer(port, address);
+        System.out.println("Table server listening on " + server.getAddress().getHostAddress()
+                + " port " + server.getPort());
+    }
+}
@@ -0,0 +1,35 @@
+package server;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Creates executors that run every task on its own virtual thread.
+ * The project targets JDK 19, where virtual threads are a preview API,
+ * so the factory method is looked up at run time. When virtual threads
+ * are not available the executors fall back to platform threads.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+final class VirtualThreads {
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * Creates an executor that starts a new thread for each task.
+     *
+     * @return A virtual-thread-per-task executor if the JVM supports one,
+     * otherwise a cached pool of platform threads.
+     */
+    static ExecutorService newThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null);
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            return Executors.newCachedThreadPool();
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package tests;
+
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import model.BankLedger;
+import model.CounterDiceSource;
+import model.GameLogic;
+
+/**
+ * Unit tests for Bank Ledger class.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public class BankLedgerTest {
+
+    private BankLedger ledger;
+
+    /**
+     * Sets up a ledger with two funded players for testing.
+     */
+    @Before
+    public void setUp() {
+        ledger = new BankLedger(2);
+        ledger.setBankBalance(0, 100);
+        ledger.setBankBalance(1, 200);
+    }
+
+    /**
+     * Checks that a bet moves money from the bank into the open bet.
+     */
+    @Test
+    public void testUpdateBet() {
+        assertTrue(ledger.updateBet(0, 50));
+        assertEquals(50, ledger.getBet(0));
+        assertEquals(50, ledger.getBankBalance(0));
+        assertEquals(300, ledger.getTotalBalance());
+    }
+
+    /**
+     * Checks that a bet larger than the bank is refused.
+     */
+    @Test
+    public void testBetTooLarge() {
+        assertFalse(ledger.updateBet(0, 150));
+        assertEquals(100, ledger.getBankBalance(0));
+        assertEquals(0, ledger.getBet(0));
+    }
+
+    /**
+     * Checks that a won bet pays twice the bet and a lost bet is forfeited.
+     */
+    @Test
+    public void testSettleBet() {
+        ledger.updateBet(0, 50);
+        assertEquals(100, ledger.settleBet(0, true));
+        assertEquals(150, ledger.getBankBalance(0));
+
+        ledger.updateBet(1, 50);
+        assertEquals(0, ledger.settleBet(1, false));
+        assertEquals(150, ledger.getBankBalance(1));
+        assertEquals(300, ledger.getTotalBalance());
+    }
+
+    /**
+     * Checks that balances larger than an int are kept exactly.
+     */
+    @Test
+    public void testLargeBalance() {
+        ledger.setBankBalance(0, Integer.MAX_VALUE);
+        ledger.deposit(0, Integer.MAX_VALUE);
+        assertEquals(2L * Integer.MAX_VALUE, ledger.getBankBalance(0));
+    }
+
+    /**
+     * Checks that winnings that would overflow a balance are refused and leave the bet open.
+     */
+    @Test(expected = ArithmeticException.class)
+    public void testSettleOverflow() {
+        ledger.setBankBalance(0, Long.MAX_VALUE - 5);
+        ledger.updateBet(0, 10);
+        try {
+            ledger.settleBet(0, true);
+        } finally {
+            assertEquals(10, ledger.getBet(0));
+            assertEquals(Long.MAX_VALUE - 15, ledger.getBankBalance(0));
+        }
+    }
+
+    /**
+     * Checks that tables built on a ledger start with their accounts and keep
+     * their bets and banks in them.
+     */
+    @Test
+    public void testLedgerTables() {
+        ledger.setBankBalance(0, 30);
+        GameLogic first = new GameLogic(new CounterDiceSource(1L, 0), ledger, 0);
+        GameLogic second = new GameLogic(new CounterDiceSource(2L, 0), ledger, 1);
+        assertEquals(30, first.getBankBalance());
+        first.updateBet(10);
+        assertEquals(20, ledger.getBankBalance(0));
+        assertEquals(10, ledger.getBet(0));
+        assertEquals(200, second.getBankBalance());
+        assertEquals(230, ledger.getTotalBalance());
+
+        second.setBankBalance(500);
+        second.updateBet(100);
+        assertEquals(400, ledger.getBankBalance(1));
+        assertEquals(100, ledger.getBet(1));
+        second.winBet();
+        assertEquals(600, ledger.getBankBalance(1));
+        assertEquals(600, second.getBankBalance());
+        assertEquals(0, second.getBet());
+
+        first.loseBet();
+        assertEquals(0, ledger.getBet(0));
+        assertEquals(620, ledger.getTotalBalance());
+
+        for (GameLogic table : new GameLogic[] {first, second}) {
+            table.startNewGame();
+            table.updateBet(5);
+            do {
+                table.getGenericRoll();
+            } while (!table.getPointGained());
+        }
+        assertEquals(ledger.getBankBalance(0), first.getBankBalance());
+        assertEquals(ledger.getBankBalance(1), second.getBankBalance());
+        assertEquals(first.getBankBalance() + second.getBankBalance(), ledger.getTotalBalance());
+    }
+
+    /**
+     * Checks that rounds applied from several threads keep the total consistent.
+     *
+     * @throws InterruptedException If interrupted while joining the threads.
+     */
+    @Test
+    public void testConcurrentRounds() throws InterruptedException {
+        ledger.setBankBalance(0, 1_000_000);
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            final boolean won = i % 2 == 0;
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 10_000; j++) {
+                    ledger.applyRound(0, 10, won);
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(1_000_000, ledger.getBankBalance(0));
+        assertEquals(1_000_200, ledger.getTotalBalance());
+    }
+}
@@ -0,0 +1,70 @@
+package tests;
+
+import org.junit.Assume;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import model.BatchEngine;
+import model.GameLogic;
+import model.SimulationResult;
+
+/**
+ * Unit tests for Batch Engine class.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public class BatchEngineTest {
+
+    /**
+     * Checks that the scalar engine plays the same rounds as GameLogic
+     * rolling from each round's position of the sequence.
+     */
+    @Test
+    public void testScalarMatchesGameLogic() {
+        long playerWins = 0;
+        long rolls = 0;
+        for (long round = 0; round < 2000; round++) {
+            GameLogic game = new GameLogic(7L, round << 32);
+            do {
+                game.getGenericRoll();
+                rolls++;
+            } while (!game.getPointGained());
+            playerWins += game.getPlayerWins();
+        }
+
+        SimulationResult result = BatchEngine.scalar().play(7L, 0, 2000);
+        assertEquals(2000, result.getRounds());
+        assertEquals(playerWins, result.getPlayerWins());
+        assertEquals(rolls, result.getRolls());
+    }
+
+    /**
+     * Checks that the vector engine gives identical tallies to the scalar
+     * engine, including a range that does not fill every lane evenly.
+     */
+    @Test
+    public void testVectorMatchesScalar() {
+        BatchEngine vector = null;
+        try {
+            vector = BatchEngine.vector();
+        } catch (UnsupportedOperationException e) {
+            Assume.assumeNoException(e);
+        }
+        SimulationResult expected = BatchEngine.scalar().play(11L, 1000, 101_003);
+        SimulationResult actual = vector.play(11L, 1000, 101_003);
+        assertEquals(expected.getRounds(), actual.getRounds());
+        assertEquals(expected.getPlayerWins(), actual.getPlayerWins());
+        assertEquals(expected.getPointsEstablished(), actual.getPointsEstablished());
+        assertEquals(expected.getRolls(), actual.getRolls());
+    }
+
+    /**
+     * Checks that an empty range plays no rounds.
+     */
+    @Test
+    public void testEmptyRange() {
+        SimulationResult result = BatchEngine.scalar().play(1L, 5, 5);
+        assertEquals(0, result.getRounds());
+        assertEquals(0, result.getRolls());
+    }
+}
@@ -0,0 +1,118 @@
+package tests;
+
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import model.BetTable;
+import model.BetType;
+import model.GameLogic;
+
+/**
+ * Unit tests for Bet Table class.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public class BetTableTest {
+
+    private BetTable table;
+
+    /**
+     * Sets up a funded table for testing.
+     */
+    @Before
+    public void setUp() {
+        table = new BetTable();
+        table.setBankBalance(1000);
+    }
+
+    /**
+     * Checks that the pass line settles exactly like updateBet, winBet and loseBet.
+     */
+    @Test
+    public void testPassLineMatchesGameLogic() {
+        GameLogic gameLogic = new GameLogic(31L, 0);
+        gameLogic.setBankBalance(1000);
+        for (int round = 0; round < 500; round++) {
+            gameLogic.updateBet(10);
+            table.placeBet(BetType.PASS, 10);
+            do {
+                gameLogic.getGenericRoll();
+                table.settle(gameLogic.getTotal());
+            } while (!gameLogic.getPointGained());
+            gameLogic.startNewGame();
+
+            assertEquals(gameLogic.getBankBalance(), table.getBankBalance());
+            assertEquals(0, table.getActiveBets());
+        }
+    }
+
+    /**
+     * Checks that a 12 on the come-out pushes a don't pass bet and loses a pass bet.
+     */
+    @Test
+    public void testDontPassBar12() {
+        table.placeBet(BetType.PASS, 10);
+        table.placeBet(BetType.DONT_PASS, 10);
+        assertEquals(10, table.settle(12));
+        assertEquals(990, table.getBankBalance());
+        assertEquals(0, table.getActiveBets());
+    }
+
+    /**
+     * Checks that a come bet moves to its own point and wins when that point repeats.
+     */
+    @Test
+    public void testComeBetTravels() {
+        table.settle(6);
+        table.placeBet(BetType.COME, 10);
+        table.settle(5);
+        assertEquals(BetType.COME_5, table.getBetType(0));
+        table.settle(6);
+        assertEquals(1, table.getActiveBets());
+        assertEquals(20, table.settle(5));
+    }
+
+    /**
+     * Checks place and odds payouts once a point is set.
+     */
+    @Test
+    public void testPlaceAndOddsPayouts() {
+        table.placeBet(BetType.PASS, 10);
+        table.settle(6);
+        table.placeBet(BetType.PASS_ODDS, 10);
+        table.placeBet(BetType.PLACE_6, 12);
+        assertEquals(20 + 22 + 26, table.settle(6));
+        assertEquals(0, table.getPoint());
+    }
+
+    /**
+     * Checks that place bets are off on the come-out roll.
+     */
+    @Test
+    public void testPlaceOffOnComeOut() {
+        table.placeBet(BetType.PLACE_8, 6);
+        assertEquals(0, table.settle(8));
+        assertEquals(1, table.getActiveBets());
+    }
+
+    /**
+     * Checks that the field pays double on 2 and is lost on 7.
+     */
+    @Test
+    public void testField() {
+        table.placeBet(BetType.FIELD, 10);
+        assertEquals(30, table.settle(2));
+        table.placeBet(BetType.FIELD, 10);
+        assertEquals(0, table.settle(7));
+        assertEquals(1010, table.getBankBalance());
+    }
+
+    /**
+     * Checks that odds cannot be taken before a point is set.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testOddsNeedPoint() {
+        table.placeBet(BetType.PASS_ODDS, 10);
+    }
+}
@@ -0,0 +1,71 @@
+package tests;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+import model.CounterDiceSource;
+import model.Dice;
+import model.GameLogic;
+
+/**
+ * Unit tests for Counter Dice Source class.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public class CounterDiceSourceTest {
+
+    /**
+     * Checks that any roll can be computed directly and matches the sequential stream.
+     */
+    @Test
+    public void testRollAt() {
+        CounterDiceSource source = new CounterDiceSource(123L, 0);
+        for (long position = 0; position < 1000; position++) {
+            assertEquals(CounterDiceSource.rollAt(123L, position), source.nextRoll());
+        }
+        assertEquals(1000, source.getPosition());
+    }
+
+    /**
+     * Checks that seeking replays the same rolls.
+     */
+    @Test
+    public void testSeek() {
+        CounterDiceSource source = new CounterDiceSource(5L, 500);
+        int first = source.nextRoll();
+        int second = source.nextRoll();
+        source.seek(500);
+        assertEquals(first, source.nextRoll());
+        assertEquals(second, source.nextRoll());
+    }
+
+    /**
+     * Checks that the outcomes are spread over all 36 cells.
+     */
+    @Test
+    public void testDistribution() {
+        int[] counts = new int[Dice.OUTCOMES];
+        CounterDiceSource source = new CounterDiceSource(42L, 0);
+        for (int i = 0; i < 360_000; i++) {
+            counts[source.nextRoll()]++;
+        }
+        for (int count : counts) {
+            assertEquals(10_000, count, 500);
+        }
+    }
+
+    /**
+     * Checks that two games with the same seed and start roll play the same rolls.
+     */
+    @Test
+    public void testSeededGameLogic() {
+        GameLogic first = new GameLogic(77L, 10);
+        GameLogic second = new GameLogic(77L, 10);
+        for (int i = 0; i < 100; i++) {
+            first.rollDice();
+            second.rollDice();
+            assertEquals(first.getDieOne(), second.getDieOne());
+            assertEquals(first.getDieTwo(), second.getDieTwo());
+        }
+    }
+}
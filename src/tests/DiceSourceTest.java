@@ -0,0 +1,77 @@
+package tests;
+
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import model.BufferedDiceSource;
+import model.Dice;
+import model.DiceSource;
+import model.GameLogic;
+import model.LookupDiceSource;
+import model.RandomDiceSource;
+
+/**
+ * Unit tests for the dice sources and the Dice lookup tables.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public class DiceSourceTest {
+
+    /**
+     * Checks that every outcome decodes back to the dice it was encoded from.
+     */
+    @Test
+    public void testDecode() {
+        for (int dieOne = 1; dieOne <= 6; dieOne++) {
+            for (int dieTwo = 1; dieTwo <= 6; dieTwo++) {
+                int outcome = Dice.outcome(dieOne, dieTwo);
+                assertEquals(dieOne, Dice.dieOne(outcome));
+                assertEquals(dieTwo, Dice.dieTwo(outcome));
+                assertEquals(dieOne + dieTwo, Dice.total(outcome));
+            }
+        }
+    }
+
+    /**
+     * Checks that every source produces every outcome and nothing out of range.
+     */
+    @Test
+    public void testSourcesCoverAllOutcomes() {
+        DiceSource[] sources = {
+                new RandomDiceSource(new Random(1)),
+                new LookupDiceSource(new Random(1)),
+                new BufferedDiceSource(new Random(1), 12)
+        };
+        for (DiceSource source : sources) {
+            int[] counts = new int[Dice.OUTCOMES];
+            for (int i = 0; i < 36_000; i++) {
+                counts[source.nextRoll()]++;
+            }
+            for (int count : counts) {
+                assertTrue(count > 800 && count < 1200);
+            }
+        }
+    }
+
+    /**
+     * Checks that GameLogic rolls the dice the source gives it.
+     */
+    @Test
+    public void testGameLogicUsesSource() {
+        GameLogic gameLogic = new GameLogic(() -> Dice.outcome(3, 4));
+        gameLogic.firstRoll();
+        assertEquals(3, gameLogic.getDieOne());
+        assertEquals(4, gameLogic.getDieTwo());
+        assertEquals(7, gameLogic.getTotal());
+        assertEquals(1, gameLogic.getPlayerWins());
+    }
+
+    /**
+     * Checks that a buffer too small for one draw is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testBufferTooSmall() {
+        new BufferedDiceSource(new Random(), 4);
+    }
+}
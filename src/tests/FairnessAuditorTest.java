@@ -0,0 +1,96 @@
+package tests;
+
+import java.util.SplittableRandom;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import model.CounterDiceSource;
+import model.FairnessAuditor;
+import model.FairnessReport;
+
+/**
+ * Unit tests for Fairness Auditor class.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public class FairnessAuditorTest {
+
+    /**
+     * Checks that fair dice pass every test and never raise an alert.
+     */
+    @Test
+    public void testFairDice() {
+        int[] alerts = {0};
+        FairnessAuditor auditor = new FairnessAuditor(new CounterDiceSource(1L, 0), 1e-6, 1 << 16,
+                report -> alerts[0]++);
+        for (int i = 0; i < 2_000_000; i++) {
+            auditor.nextRoll();
+        }
+        FairnessReport report = auditor.check();
+        assertEquals(2_000_000, report.getRolls());
+        assertTrue(report.getMinPValue() > 1e-6);
+        assertTrue(report.getSerialPValue() < 1);
+        assertEquals(0, alerts[0]);
+    }
+
+    /**
+     * Checks that the auditor passes every roll through unchanged.
+     */
+    @Test
+    public void testRollsUnchanged() {
+        FairnessAuditor auditor = new FairnessAuditor(new CounterDiceSource(3L, 0), report -> { });
+        CounterDiceSource dice = new CounterDiceSource(3L, 0);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(dice.nextRoll(), auditor.nextRoll());
+        }
+        assertNull(auditor.getReport());
+    }
+
+    /**
+     * Checks that dice favouring one outcome fail the uniformity test and
+     * raise a single alert.
+     */
+    @Test
+    public void testBiasedDice() {
+        SplittableRandom random = new SplittableRandom(5L);
+        int[] alerts = {0};
+        FairnessAuditor auditor = new FairnessAuditor(
+                () -> random.nextInt(10) == 0 ? 0 : random.nextInt(36), 1e-6, 1 << 16, report -> alerts[0]++);
+        for (int i = 0; i < 1_000_000; i++) {
+            auditor.nextRoll();
+        }
+        assertTrue(auditor.getReport().getUniformityPValue() < 1e-6);
+        assertEquals(1, alerts[0]);
+    }
+
+    /**
+     * Checks that dice that sometimes repeat the last roll fail the serial and runs tests
+     * while every outcome stays equally likely.
+     */
+    @Test
+    public void testStickyDice() {
+        SplittableRandom random = new SplittableRandom(7L);
+        int[] last = {0};
+        FairnessAuditor auditor = new FairnessAuditor(() -> {
+            if (random.nextInt(20) != 0) {
+                last[0] = random.nextInt(36);
+            }
+            return last[0];
+        }, 1e-6, 1 << 16, report -> { });
+        for (int i = 0; i < 1_000_000; i++) {
+            auditor.nextRoll();
+        }
+        FairnessReport report = auditor.check();
+        assertTrue(report.getSerialPValue() < 1e-6);
+        assertTrue(report.getRunsZ() < 0);
+        assertTrue(report.getRunsPValue() < 1e-6);
+    }
+
+    /**
+     * Checks that an alert level outside 0 to 1 is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testBadAlertLevel() {
+        new FairnessAuditor(new CounterDiceSource(1L, 0), 2, 100, report -> { });
+    }
+}
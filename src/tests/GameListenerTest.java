@@ -0,0 +1,181 @@
+package tests;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import model.AsyncGameListener;
+import model.GameEvent;
+import model.GameListener;
+import model.GameLogic;
+import model.LookupDiceSource;
+import model.RollResult;
+
+/**
+ * Unit tests for the GameLogic listener API.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public class GameListenerTest {
+
+    private GameLogic gameLogic;
+    private List<GameEvent> events;
+    private List<RollResult> states;
+
+    /**
+     * Sets up a seeded game with a listener that records every change.
+     */
+    @Before
+    public void setUp() {
+        gameLogic = new GameLogic(new LookupDiceSource(new SplittableRandom(3)));
+        events = new ArrayList<>();
+        states = new ArrayList<>();
+        gameLogic.addGameListener((event, state) -> {
+            events.add(event);
+            states.add(state);
+        });
+    }
+
+    /**
+     * Checks that bets and bank changes are reported with the new state.
+     */
+    @Test
+    public void testBetAndBank() {
+        gameLogic.setBankBalance(100);
+        gameLogic.updateBet(30);
+        gameLogic.updateBet(500);
+
+        assertEquals(List.of(GameEvent.BANK_CHANGED, GameEvent.BET_PLACED), events);
+        assertEquals(100, states.get(0).getBankBalance());
+        assertEquals(30, states.get(1).getBet());
+        assertEquals(70, states.get(1).getBankBalance());
+    }
+
+    /**
+     * Checks that settling, clearing and setting a bet outside a roll are
+     * reported, so a listener mirroring the bank never goes stale.
+     */
+    @Test
+    public void testDirectBetChanges() {
+        gameLogic.setBankBalance(100);
+        gameLogic.updateBet(30);
+        gameLogic.winBet();
+        gameLogic.updateBet(20);
+        gameLogic.loseBet();
+        gameLogic.setBet(15);
+        gameLogic.startNewGame();
+
+        assertEquals(List.of(GameEvent.BANK_CHANGED, GameEvent.BET_PLACED, GameEvent.BANK_CHANGED,
+                GameEvent.BET_PLACED, GameEvent.BANK_CHANGED, GameEvent.BET_PLACED,
+                GameEvent.BANK_CHANGED), events);
+        assertEquals(130, states.get(2).getBankBalance());
+        assertEquals(0, states.get(2).getBet());
+        assertEquals(110, states.get(4).getBankBalance());
+        assertEquals(0, states.get(4).getBet());
+        assertEquals(15, states.get(5).getBet());
+        assertEquals(0, states.get(6).getBet());
+        assertEquals(gameLogic.getBankBalance(), states.get(states.size() - 1).getBankBalance());
+    }
+
+    /**
+     * Checks that every roll is reported, followed by its outcome, and that every round ends once.
+     */
+    @Test
+    public void testRounds() {
+        int rolls = 0;
+        for (int round = 0; round < 200; round++) {
+            gameLogic.startNewGame();
+            while (!gameLogic.getPointGained()) {
+                gameLogic.getGenericRoll();
+                rolls++;
+            }
+        }
+
+        int rolled = 0;
+        int decided = 0;
+        for (int i = 0; i < events.size(); i++) {
+            GameEvent event = events.get(i);
+            if (event == GameEvent.ROLLED) {
+                rolled++;
+            } else if (event != GameEvent.BANK_CHANGED) {
+                assertEquals(GameEvent.ROLLED, events.get(i - 1));
+                assertSame(states.get(i - 1), states.get(i));
+            }
+            if (event == GameEvent.ROUND_WON || event == GameEvent.ROUND_LOST) {
+                decided++;
+            }
+        }
+        assertEquals(rolls, rolled);
+        assertEquals(200, decided);
+        assertEquals(200, events.stream().filter(e -> e == GameEvent.BANK_CHANGED).count());
+        assertEquals(gameLogic.getPlayerWins(), events.stream().filter(e -> e == GameEvent.ROUND_WON).count());
+    }
+
+    /**
+     * Checks that a removed listener is no longer called.
+     */
+    @Test
+    public void testRemove() {
+        List<GameEvent> other = new ArrayList<>();
+        GameListener recorder = (event, state) -> other.add(event);
+        gameLogic.addGameListener(recorder);
+        gameLogic.setBankBalance(10);
+        gameLogic.removeGameListener(recorder);
+        gameLogic.setBankBalance(20);
+
+        assertEquals(1, other.size());
+        assertEquals(2, events.size());
+    }
+
+    /**
+     * Checks that an async listener delivers every change in order on another thread.
+     *
+     * @throws InterruptedException If the test is interrupted.
+     */
+    @Test
+    public void testAsyncDelivery() throws InterruptedException {
+        List<Integer> banks = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        try (AsyncGameListener async = new AsyncGameListener((event, state) -> {
+            banks.add(state.getBankBalance());
+            threads.add(Thread.currentThread());
+        }, 100)) {
+            gameLogic.addGameListener(async);
+            for (int bank = 1; bank <= 50; bank++) {
+                gameLogic.setBankBalance(bank);
+            }
+        }
+        assertEquals(50, banks.size());
+        assertEquals(Integer.valueOf(50), banks.get(49));
+        assertNotSame(Thread.currentThread(), threads.get(0));
+    }
+
+    /**
+     * Checks that changes are dropped and counted instead of blocking when the queue is full.
+     *
+     * @throws InterruptedException If the test is interrupted.
+     */
+    @Test
+    public void testAsyncDropsWhenFull() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        AsyncGameListener async = new AsyncGameListener((event, state) -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, 4);
+        gameLogic.addGameListener(async);
+        for (int bank = 1; bank <= 20; bank++) {
+            gameLogic.setBankBalance(bank);
+        }
+        release.countDown();
+        async.close();
+
+        assertTrue(async.getDropped() >= 20 - 4 - 1);
+    }
+}
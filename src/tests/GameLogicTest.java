@@ -4,6 +4,7 @@ import org.junit.Before;
 import org.junit.Test;
 import static org.junit.Assert.*;
 import model.GameLogic;
+import model.RollResult;
 
 /**
  * Unit tests for Game Logic class.
@@ -76,6 +77,81 @@ public class GameLogicTest {
         assertEquals(150, gameLogic.getBankBalance());
     }
 
+    /**
+     * Checks that winnings that would overflow the bank are refused and leave the bet open.
+     */
+    @Test(expected = ArithmeticException.class)
+    public void testWinBetOverflow() {
+        gameLogic.setBankBalance(Integer.MAX_VALUE - 10);
+        gameLogic.setBet(10);
+        try {
+            gameLogic.winBet();
+        } finally {
+            assertEquals(10, gameLogic.getBet());
+            assertEquals(Integer.MAX_VALUE - 10, gameLogic.getBankBalance());
+        }
+    }
+
+    /**
+     * Checks that a bet whose winnings the bank could not hold is ignored,
+     * and that a win on the largest bet the bank can hold is paid in full.
+     */
+    @Test
+    public void testUnpayableBetIgnored() {
+        gameLogic.setBankBalance(Integer.MAX_VALUE);
+        gameLogic.updateBet(1);
+        assertEquals(0, gameLogic.getBet());
+        assertEquals(Integer.MAX_VALUE, gameLogic.getBankBalance());
+
+        gameLogic.setBankBalance(Integer.MAX_VALUE - 10);
+        gameLogic.updateBet(11);
+        assertEquals(0, gameLogic.getBet());
+        gameLogic.updateBet(10);
+        assertEquals(10, gameLogic.getBet());
+        do {
+            gameLogic.getGenericRoll();
+        } while (!gameLogic.getPointGained());
+        assertEquals(0, gameLogic.getBet());
+        if (gameLogic.getPlayerWins() == 1) {
+            assertEquals(Integer.MAX_VALUE, gameLogic.getBankBalance());
+        } else {
+            assertEquals(Integer.MAX_VALUE - 20, gameLogic.getBankBalance());
+        }
+    }
+
+    /**
+     * Checks that a bank that could not hold the open bet's winnings is refused.
+     */
+    @Test(expected = NumberFormatException.class)
+    public void testBankTooLargeForBet() {
+        gameLogic.setBankBalance(100);
+        gameLogic.updateBet(10);
+        gameLogic.setBankBalance(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Checks that a roll that could decide a round it cannot pay is refused
+     * before it changes anything.
+     */
+    @Test
+    public void testRollCannotPay() {
+        gameLogic.setBankBalance(Integer.MAX_VALUE - 10);
+        gameLogic.setBet(10);
+        for (int i = 0; i < 20; i++) {
+            try {
+                gameLogic.getGenericRoll();
+                fail();
+            } catch (ArithmeticException e) {
+                assertEquals(0, gameLogic.getTotal());
+                assertEquals(0, gameLogic.getPoint());
+                assertFalse(gameLogic.getPointGained());
+                assertEquals(0, gameLogic.getPlayerWins() + gameLogic.getHouseWins());
+                assertEquals(10, gameLogic.getBet());
+                assertEquals(Integer.MAX_VALUE - 10, gameLogic.getBankBalance());
+            }
+        }
+    }
+
     /**
      * Checks that the bet is reset to zero, and the bank balance remains unchanged.
      */
@@ -122,4 +198,23 @@ public class GameLogicTest {
         int total = gameLogic.getTotal();
         assertEquals(diceValue, total);
     }
+
+    /**
+     * Checks that the snapshot returned by a roll matches the game state after it.
+     */
+    @Test
+    public void testRollSnapshot() {
+        gameLogic.setBankBalance(100);
+        gameLogic.updateBet(10);
+        RollResult result = gameLogic.roll();
+        assertEquals(gameLogic.getDieOne(), result.getDieOne());
+        assertEquals(gameLogic.getDieTwo(), result.getDieTwo());
+        assertEquals(gameLogic.getTotal(), result.getTotal());
+        assertEquals(gameLogic.getPoint(), result.getPoint());
+        assertEquals(gameLogic.getPointGained(), result.getPointGained());
+        assertEquals(gameLogic.getPlayerWins(), result.getPlayerWins());
+        assertEquals(gameLogic.getHouseWins(), result.getHouseWins());
+        assertEquals(gameLogic.getBet(), result.getBet());
+        assertEquals(gameLogic.getBankBalance(), result.getBankBalance());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,172 @@
+package tests;
+
+import java.util.SplittableRandom;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import metrics.GameMetrics;
+import metrics.LatencyHistogram;
+import metrics.MeteredGameLogic;
+import model.GameLogic;
+import model.LookupDiceSource;
+
+/**
+ * Unit tests for the game metrics.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public class GameMetricsTest {
+
+    private GameMetrics metrics;
+
+    /**
+     * Sets up empty metrics for testing.
+     */
+    @Before
+    public void setUp() {
+        metrics = new GameMetrics();
+    }
+
+    /**
+     * Checks that the metered game counts the same rolls, rounds and bets as the game itself.
+     */
+    @Test
+    public void testCountsMatchGame() {
+        MeteredGameLogic game = new MeteredGameLogic(new LookupDiceSource(new SplittableRandom(5)), metrics);
+        game.setBankBalance(1000);
+        int rolls = 0;
+        int bets = 0;
+        for (int i = 0; i < 5000; i++) {
+            if (game.getPointGained()) {
+                game.startNewGame();
+                if (game.getBankBalance() >= 10) {
+                    game.updateBet(10);
+                    bets++;
+                }
+            }
+            game.getGenericRoll();
+            rolls++;
+        }
+        while (!game.getPointGained()) {
+            game.getGenericRoll();
+            rolls++;
+        }
+        game.flush();
+
+        assertEquals(rolls, metrics.getRolls());
+        assertEquals(game.getPlayerWins(), metrics.getPlayerWins());
+        assertEquals(game.getHouseWins(), metrics.getHouseWins());
+        assertEquals(game.getPlayerWins() + game.getHouseWins(), metrics.getRounds());
+        assertEquals(bets, metrics.getBetsPlaced());
+        assertEquals(bets * 10L, metrics.getAmountWagered());
+        assertTrue(metrics.getRoundsTimed() > 0);
+    }
+
+    /**
+     * Checks that rolls made through firstRoll, additionalRolls and rollDice are counted too.
+     */
+    @Test
+    public void testLowLevelRollsCounted() {
+        MeteredGameLogic game = new MeteredGameLogic(new LookupDiceSource(new SplittableRandom(9)), metrics);
+        int rolls = 0;
+        for (int round = 0; round < 200; round++) {
+            game.startNewGame();
+            game.firstRoll();
+            rolls++;
+            while (!game.getPointGained()) {
+                game.additionalRolls();
+                rolls++;
+            }
+        }
+        game.rollDice();
+        rolls++;
+        game.flush();
+
+        assertEquals(rolls, metrics.getRolls());
+        assertEquals(game.getPlayerWins(), metrics.getPlayerWins());
+        assertEquals(game.getHouseWins(), metrics.getHouseWins());
+        assertEquals(200, metrics.getRounds());
+    }
+
+    /**
+     * Checks that metrics are off unless turned on.
+     */
+    @Test
+    public void testOptIn() {
+        final String old = System.getProperty("craps.metrics");
+        try {
+            System.clearProperty("craps.metrics");
+            assertFalse(GameMetrics.isEnabled());
+            System.setProperty("craps.metrics", "true");
+            assertTrue(GameMetrics.isEnabled());
+        } finally {
+            if (old == null) {
+                System.clearProperty("craps.metrics");
+            } else {
+                System.setProperty("craps.metrics", old);
+            }
+        }
+    }
+
+    /**
+     * Checks that counts are held back until a flush.
+     */
+    @Test
+    public void testFlushInterval() {
+        GameLogic game = new MeteredGameLogic(new LookupDiceSource(new SplittableRandom(1)), metrics, 3);
+        int rounds = 0;
+        while (rounds < 2) {
+            game.startNewGame();
+            while (!game.getPointGained()) {
+                game.getGenericRoll();
+            }
+            rounds++;
+        }
+        assertEquals(0, metrics.getRounds());
+
+        game.startNewGame();
+        while (!game.getPointGained()) {
+            game.getGenericRoll();
+        }
+        assertEquals(3, metrics.getRounds());
+    }
+
+    /**
+     * Checks that a timed listener is called and recorded.
+     */
+    @Test
+    public void testTimedListener() {
+        int[] calls = new int[1];
+        metrics.timed(e -> calls[0]++).actionPerformed(null);
+        assertEquals(1, calls[0]);
+        assertEquals(1, metrics.getHandlerCalls());
+    }
+
+    /**
+     * Checks that reset clears every counter.
+     */
+    @Test
+    public void testReset() {
+        metrics.timed(e -> { }).actionPerformed(null);
+        metrics.reset();
+        assertEquals(0, metrics.getHandlerCalls());
+        assertEquals(0, metrics.getRolls());
+    }
+
+    /**
+     * Checks that histogram quantiles are within the bucket precision.
+     */
+    @Test
+    public void testHistogramQuantiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int nanos = 1; nanos <= 10_000; nanos++) {
+            histogram.record(nanos);
+        }
+        assertEquals(10_000, histogram.getCount());
+        assertEquals(5000.5, histogram.getMean(), 1e-9);
+        assertEquals(10_000, histogram.getMax());
+        assertEquals(5000, histogram.getQuantile(0.5), 5000 * 0.125);
+        assertEquals(9900, histogram.getQuantile(0.99), 9900 * 0.125);
+    }
+}
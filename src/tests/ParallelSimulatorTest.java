@@ -0,0 +1,92 @@
+package tests;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+import model.ParallelSimulator;
+import model.SimulationResult;
+
+/**
+ * Unit tests for Parallel Simulator class.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public class ParallelSimulatorTest {
+
+    /**
+     * Checks that the merged tallies cover every requested round.
+     */
+    @Test
+    public void testMergedTallies() {
+        SimulationResult result = new ParallelSimulator(4, 100, 5).run(1L, 1_000_003);
+        assertEquals(1_000_003, result.getRounds());
+        assertEquals(result.getRounds(), result.getPlayerWins() + result.getHouseWins());
+        assertEquals(100, result.getStartingBank());
+    }
+
+    /**
+     * Checks that a bet capped at the bank never leaves the merged bank below zero.
+     */
+    @Test
+    public void testCappedBankNeverNegative() {
+        for (int threads = 1; threads <= 4; threads *= 2) {
+            SimulationResult result = new ParallelSimulator(threads, 100, 5).run(3L, 10_000_000);
+            assertTrue(result.getFinalBank() >= 0);
+            assertEquals(result.getFinalBank(), result.getStartingBank() + result.getBankDelta());
+        }
+    }
+
+    /**
+     * Checks that the same seed and thread count give the same tallies.
+     */
+    @Test
+    public void testSeedIsReproducible() {
+        SimulationResult first = new ParallelSimulator(3, 0, 0).run(9L, 500_000);
+        SimulationResult second = new ParallelSimulator(3, 0, 0).run(9L, 500_000);
+        assertEquals(first.getPlayerWins(), second.getPlayerWins());
+        assertEquals(first.getRolls(), second.getRolls());
+    }
+
+    /**
+     * Checks that the reproducible mode gives identical tallies for any thread count.
+     */
+    @Test
+    public void testReproducibleAcrossThreads() {
+        SimulationResult single = new ParallelSimulator(1, 100, 5).runReproducible(99L, 300_001);
+        for (int threads = 2; threads <= 8; threads *= 2) {
+            SimulationResult split = new ParallelSimulator(threads, 100, 5).runReproducible(99L, 300_001);
+            assertEquals(single.getPlayerWins(), split.getPlayerWins());
+            assertEquals(single.getPointsEstablished(), split.getPointsEstablished());
+            assertEquals(single.getRolls(), split.getRolls());
+            assertEquals(single.getFinalBank(), split.getFinalBank());
+        }
+    }
+
+    /**
+     * Checks that the reproducible mode reports its uncapped bets as net
+     * winnings, while the capped mode's final bank never drops below zero.
+     */
+    @Test
+    public void testReproducibleReportsNetWinnings() {
+        SimulationResult reproducible = new ParallelSimulator(2, 100, 5).runReproducible(1L, 1_000_000L);
+        assertTrue(reproducible.isNetOnly());
+        assertEquals(0, reproducible.getStartingBank());
+        assertEquals(5 * (reproducible.getPlayerWins() - reproducible.getHouseWins()),
+                reproducible.getFinalBank());
+        assertTrue(reproducible.toString().contains("net winnings="));
+
+        SimulationResult capped = new ParallelSimulator(2, 100, 5).run(1L, 1_000_000L);
+        assertFalse(capped.isNetOnly());
+        assertEquals(100, capped.getStartingBank());
+        assertTrue(capped.getFinalBank() >= 0);
+        assertTrue(capped.toString().contains("final bank="));
+    }
+
+    /**
+     * Checks that zero threads are rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testNoThreads() {
+        new ParallelSimulator(0, 0, 0);
+    }
+}
@@ -0,0 +1,46 @@
+package tests;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+import model.PassLineOdds;
+
+/**
+ * Unit tests for Pass Line Odds class.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public class PassLineOddsTest {
+
+    private static final double DELTA = 1e-12;
+
+    /**
+     * Checks the well-known pass-line win probability of 244/495.
+     */
+    @Test
+    public void testComeOutOdds() {
+        assertEquals(244.0 / 495.0, PassLineOdds.getWinProbability(0), DELTA);
+        assertEquals(557.0 / 165.0, PassLineOdds.getExpectedRolls(0), DELTA);
+        assertEquals(-7.0 / 495.0, PassLineOdds.getExpectedValue(0), DELTA);
+    }
+
+    /**
+     * Checks the odds once a point is set, which only depend on how many ways the point can be rolled.
+     */
+    @Test
+    public void testPointOdds() {
+        assertEquals(1.0 / 3.0, PassLineOdds.getWinProbability(4), DELTA);
+        assertEquals(2.0 / 5.0, PassLineOdds.getWinProbability(9), DELTA);
+        assertEquals(5.0 / 11.0, PassLineOdds.getWinProbability(6), DELTA);
+        assertEquals(4.0, PassLineOdds.getExpectedRolls(10), DELTA);
+        assertEquals(36.0 / 11.0, PassLineOdds.getExpectedRolls(8), DELTA);
+    }
+
+    /**
+     * Checks that a total that cannot be a point is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testNotAPoint() {
+        PassLineOdds.getWinProbability(7);
+    }
+}
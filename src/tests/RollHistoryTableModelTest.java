@@ -0,0 +1,162 @@
+package tests;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import javax.swing.event.TableModelEvent;
+import model.CounterDiceSource;
+import model.GameLogic;
+import view.RollHistoryTableModel;
+
+/**
+ * Unit tests for Roll History Table Model class.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public class RollHistoryTableModelTest {
+
+    /**
+     * Checks that the rows match the game's rolls, newest last.
+     */
+    @Test
+    public void testRowsFollowRolls() {
+        RollHistoryTableModel model = new RollHistoryTableModel(10);
+        GameLogic game = new GameLogic(new CounterDiceSource(2L, 0));
+        game.addGameListener(model);
+        game.getGenericRoll();
+        game.getGenericRoll();
+        assertEquals(0, model.getRowCount());
+
+        model.update();
+        assertEquals(2, model.getRowCount());
+        assertEquals(2L, model.getValueAt(1, 0));
+        assertEquals(game.getDieOne(), model.getValueAt(1, 1));
+        assertEquals(game.getDieTwo(), model.getValueAt(1, 2));
+        assertEquals(game.getTotal(), model.getValueAt(1, 3));
+    }
+
+    /**
+     * Checks that a round's deciding roll is marked as won or lost.
+     */
+    @Test
+    public void testResultColumn() {
+        RollHistoryTableModel model = new RollHistoryTableModel(100);
+        GameLogic game = new GameLogic(new CounterDiceSource(4L, 0));
+        game.addGameListener(model);
+        do {
+            game.getGenericRoll();
+        } while (!game.getPointGained());
+        model.update();
+
+        Object result = model.getValueAt(model.getRowCount() - 1, 5);
+        assertEquals(game.getPlayerWins() == 1 ? "Won" : "Lost", result);
+        for (int row = 0; row < model.getRowCount() - 1; row++) {
+            assertEquals("", model.getValueAt(row, 5));
+        }
+    }
+
+    /**
+     * Checks that a full ring keeps its size and that each update sends
+     * at most one delete and one insert event.
+     */
+    @Test
+    public void testBatchedEvents() {
+        RollHistoryTableModel model = new RollHistoryTableModel(4);
+        GameLogic game = new GameLogic(new CounterDiceSource(6L, 0));
+        game.addGameListener(model);
+        int[] rows = {0};
+        int[] events = {0};
+        model.addTableModelListener(e -> {
+            events[0]++;
+            if (e.getType() == TableModelEvent.INSERT) {
+                rows[0] += e.getLastRow() - e.getFirstRow() + 1;
+            } else if (e.getType() == TableModelEvent.DELETE) {
+                rows[0] -= e.getLastRow() - e.getFirstRow() + 1;
+            }
+        });
+        for (int batch = 1; batch <= 3; batch++) {
+            for (int i = 0; i < batch; i++) {
+                if (game.getPointGained()) {
+                    game.startNewGame();
+                }
+                game.getGenericRoll();
+            }
+            model.update();
+        }
+        assertEquals(4, model.getRowCount());
+        assertEquals(4, rows[0]);
+        assertEquals(4, events[0]);
+        assertEquals(6, model.getRollCount());
+        assertEquals(6L, model.getValueAt(3, 0));
+    }
+
+    /**
+     * Checks that an empty table given more rolls than it holds sends one
+     * data changed event instead of deleting rows it never showed.
+     */
+    @Test
+    public void testEmptyOverflow() {
+        RollHistoryTableModel model = new RollHistoryTableModel(4);
+        GameLogic game = new GameLogic(new CounterDiceSource(10L, 0));
+        game.addGameListener(model);
+        List<TableModelEvent> events = new ArrayList<>();
+        model.addTableModelListener(events::add);
+        for (int i = 0; i < 10; i++) {
+            if (game.getPointGained()) {
+                game.startNewGame();
+            }
+            game.getGenericRoll();
+        }
+        model.update();
+        assertEquals(1, events.size());
+        assertEquals(TableModelEvent.UPDATE, events.get(0).getType());
+        assertEquals(0, events.get(0).getFirstRow());
+        assertEquals(4, model.getRowCount());
+        assertEquals(10L, model.getValueAt(3, 0));
+    }
+
+    /**
+     * Checks that rows the game has overwritten since the last update are
+     * shown blank, while the rows still in the ring keep their rolls.
+     */
+    @Test
+    public void testOverwrittenRowsBlank() {
+        RollHistoryTableModel model = new RollHistoryTableModel(4);
+        GameLogic game = new GameLogic(new CounterDiceSource(12L, 0));
+        game.addGameListener(model);
+        for (int i = 0; i < 6; i++) {
+            if (game.getPointGained()) {
+                game.startNewGame();
+            }
+            game.getGenericRoll();
+            if (i == 3) {
+                model.update();
+            }
+        }
+        assertNull(model.getValueAt(0, 0));
+        assertNull(model.getValueAt(1, 3));
+        assertEquals(3L, model.getValueAt(2, 0));
+        assertEquals(4L, model.getValueAt(3, 0));
+
+        model.update();
+        assertEquals(3L, model.getValueAt(0, 0));
+        assertEquals(6L, model.getValueAt(3, 0));
+    }
+
+    /**
+     * Checks that clearing removes every row.
+     */
+    @Test
+    public void testClear() {
+        RollHistoryTableModel model = new RollHistoryTableModel(4);
+        GameLogic game = new GameLogic(new CounterDiceSource(8L, 0));
+        game.addGameListener(model);
+        game.getGenericRoll();
+        model.update();
+        model.clear();
+        assertEquals(0, model.getRowCount());
+        assertEquals(0, model.getRollCount());
+    }
+}
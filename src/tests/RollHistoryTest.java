@@ -0,0 +1,108 @@
+package tests;
+
+import java.util.Arrays;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import model.CounterDiceSource;
+import model.Dice;
+import model.DiceSource;
+import model.GameLogic;
+import model.RollHistory;
+
+/**
+ * Unit tests for Roll History class.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public class RollHistoryTest {
+
+    /**
+     * Checks that the window keeps only the newest rolls, oldest first.
+     */
+    @Test
+    public void testLastRolls() {
+        RollHistory history = new RollHistory(2, 3);
+        for (int outcome = 0; outcome < 5; outcome++) {
+            history.record(1, outcome);
+        }
+        int[] rolls = new int[10];
+        assertEquals(3, history.getLastRolls(1, rolls));
+        assertArrayEquals(new int[] {2, 3, 4}, Arrays.copyOf(rolls, 3));
+        assertEquals(5, history.getRollCount(1));
+        assertEquals(0, history.getRollCount(0));
+    }
+
+    /**
+     * Checks that the counts of each total cover exactly the rolls in the window.
+     */
+    @Test
+    public void testTotalCounts() {
+        RollHistory history = new RollHistory(1, 50);
+        CounterDiceSource dice = new CounterDiceSource(3L, 0);
+        int[] expected = new int[13];
+        int[] window = new int[50];
+        for (int i = 0; i < 500; i++) {
+            history.record(0, dice.nextRoll());
+        }
+        history.getLastRolls(0, window);
+        for (int outcome : window) {
+            expected[Dice.total(outcome)]++;
+        }
+        int[] counts = new int[13];
+        assertEquals(500, history.getTotalCounts(0, counts));
+        assertArrayEquals(expected, counts);
+        assertEquals(expected[7], history.getTotalCount(0, 7));
+    }
+
+    /**
+     * Checks that a recording dice source stores what the game rolled.
+     */
+    @Test
+    public void testRecordingSource() {
+        RollHistory history = new RollHistory(4, 8);
+        DiceSource dice = history.recording(2, new CounterDiceSource(1L, 0));
+        GameLogic game = new GameLogic(dice);
+        game.getGenericRoll();
+        int[] rolls = new int[1];
+        assertEquals(1, history.getLastRolls(2, rolls));
+        assertEquals(game.getDieOne(), Dice.dieOne(rolls[0]));
+        assertEquals(game.getDieTwo(), Dice.dieTwo(rolls[0]));
+    }
+
+    /**
+     * Checks that a reader never sees counts that disagree with the roll count
+     * while another thread keeps rolling.
+     *
+     * @throws InterruptedException If the test is interrupted.
+     */
+    @Test
+    public void testConcurrentReads() throws InterruptedException {
+        RollHistory history = new RollHistory(1, 64);
+        Thread table = new Thread(() -> {
+            CounterDiceSource dice = new CounterDiceSource(9L, 0);
+            for (int i = 0; i < 1_000_000; i++) {
+                history.record(0, dice.nextRoll());
+            }
+        });
+        table.start();
+        int[] counts = new int[13];
+        while (table.isAlive()) {
+            long rolls = history.getTotalCounts(0, counts);
+            int sum = 0;
+            for (int count : counts) {
+                sum += count;
+            }
+            assertEquals(Math.min(rolls, 64), sum);
+        }
+        table.join();
+    }
+
+    /**
+     * Checks that a table outside the history is rejected.
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testUnknownTable() {
+        new RollHistory(2, 4).record(2, 0);
+    }
+}
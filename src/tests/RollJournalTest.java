@@ -0,0 +1,134 @@
+package tests;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.SplittableRandom;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.junit.Assert.*;
+import model.GameLogic;
+import model.JournalReader;
+import model.JournaledGameLogic;
+import model.LookupDiceSource;
+import model.RollJournal;
+
+/**
+ * Unit tests for the roll journal and its replay.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public class RollJournalTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * Checks that replaying a journal rebuilds the scores, point, bet and bank of every table.
+     *
+     * @throws IOException If the journal cannot be written or read.
+     */
+    @Test
+    public void testReplay() throws IOException {
+        File file = folder.newFile("journal.bin");
+        GameLogic[] tables = new GameLogic[3];
+
+        try (RollJournal journal = new RollJournal(file.toPath(), 4096, 16)) {
+            for (int i = 0; i < tables.length; i++) {
+                tables[i] = new JournaledGameLogic(new LookupDiceSource(new SplittableRandom(i)), journal, i);
+                tables[i].setBankBalance(1000);
+            }
+            for (int roll = 0; roll < 2000; roll++) {
+                for (GameLogic table : tables) {
+                    if (table.getPointGained()) {
+                        table.startNewGame();
+                        table.updateBet(10);
+                    }
+                    table.getGenericRoll();
+                }
+            }
+        }
+
+        Map<Integer, GameLogic> replayed;
+        try (JournalReader reader = new JournalReader(file.toPath())) {
+            replayed = reader.replay();
+        }
+        assertEquals(tables.length, replayed.size());
+        for (int i = 0; i < tables.length; i++) {
+            GameLogic replay = replayed.get(i);
+            assertEquals(tables[i].getPlayerWins(), replay.getPlayerWins());
+            assertEquals(tables[i].getHouseWins(), replay.getHouseWins());
+            assertEquals(tables[i].getPoint(), replay.getPoint());
+            assertEquals(tables[i].getBet(), replay.getBet());
+            assertEquals(tables[i].getBankBalance(), replay.getBankBalance());
+        }
+    }
+
+    /**
+     * Checks that a table driven through its lower-level methods replays to the same state.
+     *
+     * @throws IOException If the journal cannot be written or read.
+     */
+    @Test
+    public void testReplayLowLevelMethods() throws IOException {
+        File file = folder.newFile("low.bin");
+        GameLogic table;
+        try (RollJournal journal = new RollJournal(file.toPath(), 4096, 16)) {
+            table = new JournaledGameLogic(new LookupDiceSource(new SplittableRandom(4)), journal, 0);
+            table.setBankBalance(500);
+            for (int round = 0; round < 200; round++) {
+                table.startNewGame();
+                table.updateBet(5);
+                table.firstRoll();
+                while (!table.getPointGained()) {
+                    table.additionalRolls();
+                }
+                if (round % 10 == 0) {
+                    table.rollDice();
+                    table.setBet(20);
+                    if (round % 20 == 0) {
+                        table.winBet();
+                    } else {
+                        table.loseBet();
+                    }
+                    table.setPlayerWins(table.getPlayerWins() + 1);
+                }
+            }
+        }
+
+        GameLogic replay;
+        try (JournalReader reader = new JournalReader(file.toPath())) {
+            replay = reader.replay().get(0);
+        }
+        assertEquals(table.getPlayerWins(), replay.getPlayerWins());
+        assertEquals(table.getHouseWins(), replay.getHouseWins());
+        assertEquals(table.getPoint(), replay.getPoint());
+        assertEquals(table.getTotal(), replay.getTotal());
+        assertEquals(table.getBet(), replay.getBet());
+        assertEquals(table.getBankBalance(), replay.getBankBalance());
+    }
+
+    /**
+     * Checks that reopening a journal continues its sequence numbers.
+     *
+     * @throws IOException If the journal cannot be written or read.
+     */
+    @Test
+    public void testReopen() throws IOException {
+        File file = folder.newFile("reopen.bin");
+        try (RollJournal journal = new RollJournal(file.toPath(), 4096, 16)) {
+            journal.append(0, RollJournal.BANK, 0, 0, 100, 100);
+            journal.append(0, RollJournal.BET, 0, 0, 10, -10);
+        }
+        try (RollJournal journal = new RollJournal(file.toPath(), 4096, 16)) {
+            assertEquals(2, journal.getLastSequence());
+            assertEquals(3, journal.append(0, RollJournal.NEW_GAME, 0, 0, 0, 0));
+        }
+        try (JournalReader reader = new JournalReader(file.toPath())) {
+            assertEquals(3, reader.getLastSequence());
+            assertEquals(90, reader.replay().get(0).getBankBalance());
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package tests;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+import model.RoundSimulator;
+import model.SimulationResult;
+
+/**
+ * Unit tests for Round Simulator class.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public class RoundSimulatorTest {
+
+    /**
+     * Checks that every round is won by either the player or the house.
+     */
+    @Test
+    public void testRoundsAreSplit() {
+        SimulationResult result = new RoundSimulator(1L, 0, 0).run(10_000);
+        assertEquals(10_000, result.getRounds());
+        assertEquals(result.getRounds(), result.getPlayerWins() + result.getHouseWins());
+        assertTrue(result.getRolls() >= result.getRounds());
+        assertTrue(result.getPointsEstablished() <= result.getRounds());
+    }
+
+    /**
+     * Checks that the same seed plays the same rounds.
+     */
+    @Test
+    public void testSeedIsReproducible() {
+        SimulationResult first = new RoundSimulator(7L, 1000, 10).run(50_000);
+        SimulationResult second = new RoundSimulator(7L, 1000, 10).run(50_000);
+        assertEquals(first.getPlayerWins(), second.getPlayerWins());
+        assertEquals(first.getRolls(), second.getRolls());
+        assertEquals(first.getFinalBank(), second.getFinalBank());
+    }
+
+    /**
+     * Checks that the player win rate is close to the exact pass-line odds of 244/495.
+     */
+    @Test
+    public void testWinRate() {
+        SimulationResult result = new RoundSimulator(11L, 0, 0).run(2_000_000);
+        assertEquals(244.0 / 495.0, result.getPlayerWinRate(), 0.002);
+    }
+
+    /**
+     * Checks that the bank never goes below zero when bets are capped at the bank balance.
+     */
+    @Test
+    public void testBankNeverNegative() {
+        SimulationResult result = new RoundSimulator(3L, 50, 20).run(100_000);
+        assertTrue(result.getFinalBank() >= 0);
+    }
+
+    /**
+     * Checks that a negative bet is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeBet() {
+        new RoundSimulator(1L, 100, -5);
+    }
+}
@@ -0,0 +1,97 @@
+package tests;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+import model.BacktestResult;
+import model.Progression;
+import model.SessionConfig;
+import model.StrategyBacktester;
+
+/**
+ * Unit tests for the strategy back-tester and the built-in progressions.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public class StrategyBacktesterTest {
+
+    /**
+     * Checks the bets each progression makes after wins and losses.
+     */
+    @Test
+    public void testProgressions() {
+        assertEquals(10, Progression.FLAT.nextBet(10, 40, false, 100));
+        assertEquals(10, Progression.MARTINGALE.nextBet(10, 0, false, 100));
+        assertEquals(80, Progression.MARTINGALE.nextBet(10, 40, false, 100));
+        assertEquals(10, Progression.MARTINGALE.nextBet(10, 40, true, 100));
+        assertEquals(20, Progression.PAROLI.nextBet(10, 10, true, 100));
+        assertEquals(10, Progression.PAROLI.nextBet(10, 40, true, 100));
+        assertEquals(10, Progression.PAROLI.nextBet(10, 20, false, 100));
+    }
+
+    /**
+     * Checks that every session ends in exactly one recorded outcome and stays within its limits.
+     */
+    @Test
+    public void testSessionLimits() {
+        SessionConfig config = new SessionConfig(100, 10, 50, 50, 1000);
+        BacktestResult result = new StrategyBacktester(Progression.FLAT, config).run(20_000, 1L, 2);
+
+        assertEquals(20_000, result.getSessions());
+        assertEquals(result.getSessions(), result.getStopWinCount() + result.getStopLossCount());
+        assertTrue(result.getMinFinalBank() >= 50);
+        assertTrue(result.getMaxFinalBank() <= 150);
+        assertEquals(0, result.getRuinCount());
+    }
+
+    /**
+     * Checks that sessions without a stop-loss can be ruined and that the
+     * histogram counts every session.
+     */
+    @Test
+    public void testRiskOfRuin() {
+        SessionConfig config = new SessionConfig(100, 10, 0, 0, 10_000);
+        BacktestResult result = new StrategyBacktester(Progression.MARTINGALE, config).run(5_000, 2L, 1);
+
+        assertTrue(result.getRiskOfRuin() > 0.5);
+        assertTrue(result.getMinFinalBank() >= 0);
+        assertEquals(result.getRuinCount() > 0, result.getMinFinalBank() < 10);
+        long counted = 0;
+        for (long count : result.getHistogram()) {
+            counted += count;
+        }
+        assertEquals(result.getSessions(), counted);
+        assertEquals(0, result.getFinalBankQuantile(0.05));
+    }
+
+    /**
+     * Checks that a session config with no base bet is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testNoBaseBet() {
+        new SessionConfig(100, 0, 0, 0, 10);
+    }
+
+    /**
+     * Checks that a ruined session stops as soon as the bank can no longer cover the base bet.
+     */
+    @Test
+    public void testRuinEndsSession() {
+        SessionConfig config = new SessionConfig(25, 10, 0, 0, 1_000_000);
+        BacktestResult result = new StrategyBacktester(Progression.FLAT, config).run(2_000, 3L, 1);
+
+        assertEquals(result.getSessions(), result.getRuinCount());
+        assertEquals(5, result.getMinFinalBank());
+        assertEquals(5, result.getMaxFinalBank());
+    }
+
+    /**
+     * Checks that a Paroli bet on a huge base bet does not overflow.
+     */
+    @Test
+    public void testParoliLargeBet() {
+        int base = Integer.MAX_VALUE / 4;
+        assertEquals(Integer.MAX_VALUE, Progression.PAROLI.nextBet(base, base * 3, true, Long.MAX_VALUE));
+        assertTrue(Progression.PAROLI.nextBet(base, base, true, Long.MAX_VALUE) > 0);
+    }
+}
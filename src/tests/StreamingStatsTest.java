@@ -0,0 +1,123 @@
+package tests;
+
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import model.GameLogic;
+import model.StatsSnapshot;
+import model.StreamingStats;
+
+/**
+ * Unit tests for Streaming Stats class.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public class StreamingStatsTest {
+
+    private StreamingStats stats;
+
+    /**
+     * Sets up empty statistics for testing.
+     */
+    @Before
+    public void setUp() {
+        stats = new StreamingStats();
+    }
+
+    /**
+     * Checks that totals and round lengths are counted.
+     */
+    @Test
+    public void testRollsAndRounds() {
+        stats.recordRoll(7);
+        stats.recordSettlement(true, 100);
+        stats.recordRoll(4);
+        stats.recordRoll(9);
+        stats.recordRoll(7);
+        stats.recordSettlement(false, 90);
+
+        StatsSnapshot snapshot = stats.snapshot();
+        assertEquals(4, snapshot.getRolls());
+        assertEquals(2, snapshot.getTotalCount(7));
+        assertEquals(2, snapshot.getRounds());
+        assertEquals(1, snapshot.getRoundLengthCount(1));
+        assertEquals(1, snapshot.getRoundLengthCount(3));
+    }
+
+    /**
+     * Checks that a streak is counted once it ends.
+     */
+    @Test
+    public void testStreaks() {
+        stats.recordSettlement(true, 0);
+        stats.recordSettlement(true, 0);
+        stats.recordSettlement(true, 0);
+        stats.recordSettlement(false, 0);
+        stats.recordSettlement(true, 0);
+
+        StatsSnapshot snapshot = stats.snapshot();
+        assertEquals(1, snapshot.getWinStreakCount(3));
+        assertEquals(1, snapshot.getLossStreakCount(1));
+        assertEquals(0, snapshot.getWinStreakCount(1));
+    }
+
+    /**
+     * Checks that bank quantiles are within the histogram's precision.
+     */
+    @Test
+    public void testBankQuantiles() {
+        for (int bank = 1; bank <= 100_000; bank++) {
+            stats.recordSettlement(true, bank);
+        }
+        StatsSnapshot snapshot = stats.snapshot();
+        assertEquals(50_000, snapshot.getBankQuantile(0.5), 50_000 * 0.04);
+        assertEquals(99_000, snapshot.getBankQuantile(0.99), 99_000 * 0.04);
+        assertEquals(1, snapshot.getBankQuantile(0.0));
+    }
+
+    /**
+     * Checks that snapshots of two tables merge into their combined counts.
+     */
+    @Test
+    public void testMerge() {
+        StreamingStats other = new StreamingStats();
+        stats.recordRoll(6);
+        other.recordRoll(6);
+        other.recordRoll(8);
+
+        StatsSnapshot merged = stats.snapshot().merge(other.snapshot());
+        assertEquals(3, merged.getRolls());
+        assertEquals(2, merged.getTotalCount(6));
+    }
+
+    /**
+     * Checks that statistics added as a listener count every roll and round of a real table.
+     */
+    @Test
+    public void testFedByTable() {
+        GameLogic table = new GameLogic(12L, 0);
+        table.addGameListener(stats);
+        table.setBankBalance(1000);
+        int rolls = 0;
+        for (int round = 0; round < 500; round++) {
+            table.startNewGame();
+            table.updateBet(1);
+            do {
+                table.getGenericRoll();
+                rolls++;
+            } while (!table.getPointGained());
+        }
+
+        StatsSnapshot snapshot = stats.snapshot();
+        assertEquals(rolls, snapshot.getRolls());
+        assertEquals(500, snapshot.getRounds());
+        assertEquals(table.getPlayerWins() + table.getHouseWins(), snapshot.getRounds());
+        long rounds = 0;
+        for (int length = 1; length <= StreamingStats.MAX_LENGTH; length++) {
+            rounds += snapshot.getRoundLengthCount(length);
+        }
+        assertEquals(500, rounds);
+        assertTrue(snapshot.getBankQuantile(1.0) >= table.getBankBalance() * 0.96);
+    }
+}
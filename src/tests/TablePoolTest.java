@@ -0,0 +1,176 @@
+package tests;
+
+import java.util.SplittableRandom;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import model.TablePool;
+
+/**
+ * Unit tests for Table Pool class.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public class TablePoolTest {
+
+    private TablePool pool;
+
+    /**
+     * Sets up a pool of funded tables for testing.
+     */
+    @Before
+    public void setUp() {
+        pool = new TablePool(1000, new SplittableRandom(5));
+        pool.setAllBankBalances(100);
+    }
+
+    /**
+     * Checks that a tick rolls every table and sets a point only on a point total.
+     */
+    @Test
+    public void testTick() {
+        pool.tick();
+        for (int table = 0; table < pool.size(); table++) {
+            int total = pool.getTotal(table);
+            assertEquals(pool.getDieOne(table) + pool.getDieTwo(table), total);
+            if (pool.getPointGained(table)) {
+                assertEquals(0, pool.getPoint(table));
+            } else {
+                assertEquals(total, pool.getPoint(table));
+            }
+        }
+    }
+
+    /**
+     * Checks that bets are deducted from the bank and settled like winBet and loseBet.
+     */
+    @Test
+    public void testBetSettlement() {
+        pool.updateBet(0, 40);
+        assertEquals(40, pool.getBet(0));
+        assertEquals(60, pool.getBankBalance(0));
+
+        while (!pool.getPointGained(0)) {
+            pool.tick();
+        }
+        assertEquals(0, pool.getBet(0));
+        if (pool.getPlayerWins(0) == 1) {
+            assertEquals(140, pool.getBankBalance(0));
+        } else {
+            assertEquals(60, pool.getBankBalance(0));
+        }
+    }
+
+    /**
+     * Checks that the automatic bet is placed before the first come-out roll.
+     */
+    @Test
+    public void testAutoBetFirstRound() {
+        pool.setAutoBet(10);
+        pool.tick();
+        for (int table = 0; table < pool.size(); table++) {
+            if (!pool.getPointGained(table)) {
+                assertEquals(10, pool.getBet(table));
+                assertEquals(90, pool.getBankBalance(table));
+            } else if (pool.getPlayerWins(table) == 1) {
+                assertEquals(110, pool.getBankBalance(table));
+            } else {
+                assertEquals(90, pool.getBankBalance(table));
+            }
+        }
+    }
+
+    /**
+     * Checks that the automatic bet is placed and settled in every round.
+     */
+    @Test
+    public void testAutoBet() {
+        pool.setAllBankBalances(100_000);
+        pool.setAutoBet(10);
+        for (int i = 0; i < 500; i++) {
+            pool.tick();
+        }
+        for (int table = 0; table < pool.size(); table++) {
+            int wins = pool.getPlayerWins(table);
+            int losses = pool.getHouseWins(table);
+            assertTrue(wins + losses > 0);
+            assertEquals(100_000 + 10 * (wins - losses), pool.getBankBalance(table) + pool.getBet(table));
+        }
+    }
+
+    /**
+     * Checks that bets and banks whose winnings would overflow a bank are
+     * rejected, so a win near the largest bank is paid exactly.
+     */
+    @Test
+    public void testLargeBankWin() {
+        pool.setBankBalance(0, Integer.MAX_VALUE);
+        pool.updateBet(0, 1);
+        assertEquals(0, pool.getBet(0));
+
+        pool.setBankBalance(0, Integer.MAX_VALUE - 10);
+        pool.updateBet(0, 11);
+        assertEquals(0, pool.getBet(0));
+        pool.updateBet(0, 10);
+        assertEquals(10, pool.getBet(0));
+        try {
+            pool.setBankBalance(0, Integer.MAX_VALUE);
+            fail();
+        } catch (NumberFormatException e) {
+            assertEquals(Integer.MAX_VALUE - 20, pool.getBankBalance(0));
+        }
+
+        while (!pool.getPointGained(0)) {
+            pool.tick();
+        }
+        if (pool.getPlayerWins(0) == 1) {
+            assertEquals(Integer.MAX_VALUE, pool.getBankBalance(0));
+        } else {
+            assertEquals(Integer.MAX_VALUE - 20, pool.getBankBalance(0));
+        }
+    }
+
+    /**
+     * Checks that the automatic bet is not placed on a bank too large to hold its winnings.
+     */
+    @Test
+    public void testAutoBetLargeBank() {
+        pool.setBankBalance(0, Integer.MAX_VALUE);
+        pool.setBankBalance(1, Integer.MAX_VALUE - 10);
+        pool.setAutoBet(10);
+        pool.tick();
+        assertEquals(0, pool.getBet(0));
+        assertEquals(Integer.MAX_VALUE, pool.getBankBalance(0));
+        assertTrue(pool.getBankBalance(1) >= 0);
+        assertEquals(Integer.MAX_VALUE - 10, pool.getBankBalance(1) + pool.getBet(1)
+                - 10 * (pool.getPlayerWins(1) - pool.getHouseWins(1)));
+    }
+
+    /**
+     * Checks that a large pool takes well under 64 bytes of heap per table.
+     */
+    @Test
+    public void testFootprint() {
+        int tables = 1 << 21;
+        long before = usedMemory();
+        TablePool big = new TablePool(tables, new SplittableRandom(6));
+        long perTable = (usedMemory() - before) / tables;
+        assertEquals(tables, big.size());
+        assertTrue(perTable < 64);
+        assertTrue(perTable >= TablePool.BYTES_PER_TABLE / 2);
+    }
+
+    /**
+     * Measures the heap in use after collecting garbage.
+     *
+     * @return The used heap in bytes.
+     */
+    private static long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
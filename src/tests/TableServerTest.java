@@ -0,0 +1,130 @@
+package tests;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import model.GameLogic;
+import server.TableServer;
+
+/**
+ * Unit tests for Table Server class.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public class TableServerTest {
+
+    private GameLogic gameLogic;
+
+    /**
+     * Sets up a seeded, funded table for testing.
+     */
+    @Before
+    public void setUp() {
+        gameLogic = new GameLogic(8L, 0);
+        gameLogic.setBankBalance(100);
+    }
+
+    /**
+     * Checks that STATE reports every field of the table in order.
+     */
+    @Test
+    public void testState() {
+        assertEquals("OK 0 0 0 0 0 0 0 0 100", TableServer.handle(gameLogic, "STATE"));
+    }
+
+    /**
+     * Checks that a bet is taken from the bank.
+     */
+    @Test
+    public void testBet() {
+        assertEquals("OK 0 0 0 0 0 0 0 40 60", TableServer.handle(gameLogic, "BET 40"));
+    }
+
+    /**
+     * Checks that bets that are not positive or are more than the bank are refused.
+     */
+    @Test
+    public void testBetOutOfRange() {
+        assertEquals("ERR INVALID BET", TableServer.handle(gameLogic, "BET 0"));
+        assertEquals("ERR INVALID BET", TableServer.handle(gameLogic, "BET -5"));
+        assertEquals("ERR INVALID BET", TableServer.handle(gameLogic, "BET 101"));
+        assertEquals(100, gameLogic.getBankBalance());
+        assertEquals(0, gameLogic.getBet());
+    }
+
+    /**
+     * Checks that a bet the bank could not pay out is refused, so rolling
+     * with the largest bank never fails or loses the connection.
+     */
+    @Test
+    public void testLargestBank() {
+        assertEquals("OK 0 0 0 0 0 0 0 0 2147483647", TableServer.handle(gameLogic, "BANK 2147483647"));
+        assertEquals("ERR INVALID BET", TableServer.handle(gameLogic, "BET 1"));
+        while (!gameLogic.getPointGained()) {
+            assertTrue(TableServer.handle(gameLogic, "ROLL").startsWith("OK "));
+        }
+        assertEquals(Integer.MAX_VALUE, gameLogic.getBankBalance());
+    }
+
+    /**
+     * Checks that amounts that are missing or do not parse are refused.
+     */
+    @Test
+    public void testBadAmounts() {
+        assertEquals("ERR INVALID AMOUNT", TableServer.handle(gameLogic, "BET"));
+        assertEquals("ERR INVALID AMOUNT", TableServer.handle(gameLogic, "BET ten"));
+        assertEquals("ERR INVALID AMOUNT", TableServer.handle(gameLogic, "BANK"));
+        assertEquals("ERR INVALID AMOUNT", TableServer.handle(gameLogic, "BANK 1.5"));
+        assertEquals("ERR INVALID AMOUNT", TableServer.handle(gameLogic, "BANK -1"));
+        assertEquals(100, gameLogic.getBankBalance());
+    }
+
+    /**
+     * Checks that ROLL is refused once the round is decided, until NEW starts another.
+     */
+    @Test
+    public void testRollAfterRoundOver() {
+        while (!gameLogic.getPointGained()) {
+            assertTrue(TableServer.handle(gameLogic, "ROLL").startsWith("OK "));
+        }
+        assertEquals("ERR ROUND OVER", TableServer.handle(gameLogic, "ROLL"));
+        TableServer.handle(gameLogic, "NEW");
+        assertTrue(TableServer.handle(gameLogic, "ROLL").startsWith("OK "));
+    }
+
+    /**
+     * Checks that unknown commands are refused.
+     */
+    @Test
+    public void testUnknownCommand() {
+        assertEquals("ERR UNKNOWN COMMAND", TableServer.handle(gameLogic, "DOUBLE"));
+    }
+
+    /**
+     * Checks that the server listens on loopback by default and answers over a connection.
+     *
+     * @throws IOException If the connection fails.
+     */
+    @Test
+    public void testLoopbackByDefault() throws IOException {
+        try (TableServer server = new TableServer(0);
+             Socket socket = new Socket(server.getAddress(), server.getPort());
+             BufferedReader in = new BufferedReader(
+                     new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+             Writer out = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.US_ASCII)) {
+            assertTrue(server.getAddress().isLoopbackAddress());
+            out.write("BANK 50\nBET 20\n");
+            out.flush();
+            assertEquals("OK 0 0 0 0 0 0 0 0 50", in.readLine());
+            assertEquals("OK 0 0 0 0 0 0 0 20 30", in.readLine());
+        }
+    }
+}
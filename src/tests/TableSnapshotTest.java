@@ -0,0 +1,118 @@
+package tests;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.junit.Assert.*;
+import model.GameLogic;
+import model.JournaledGameLogic;
+import model.LookupDiceSource;
+import model.RollJournal;
+import model.TableSnapshot;
+
+/**
+ * Unit tests for Table Snapshot class.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public class TableSnapshotTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * Checks that a snapshot restores every table's state.
+     *
+     * @throws IOException If the snapshot cannot be written or read.
+     */
+    @Test
+    public void testWriteAndRead() throws IOException {
+        Map<Integer, GameLogic> tables = new HashMap<>();
+        for (int i = 0; i < 100; i++) {
+            GameLogic table = new GameLogic(new LookupDiceSource(new SplittableRandom(i)));
+            table.setBankBalance(100 + i);
+            table.updateBet(5);
+            table.getGenericRoll();
+            tables.put(i, table);
+        }
+        File file = folder.newFile("tables.snap");
+        TableSnapshot.write(file.toPath(), tables, 17);
+
+        TableSnapshot snapshot = TableSnapshot.read(file.toPath());
+        assertEquals(17, snapshot.getJournalSequence());
+        assertEquals(tables.size(), snapshot.getTables().size());
+        for (Map.Entry<Integer, GameLogic> entry : tables.entrySet()) {
+            assertSameState(entry.getValue(), snapshot.getTables().get(entry.getKey()));
+        }
+    }
+
+    /**
+     * Checks that a snapshot plus the journal tail recovers the latest state.
+     *
+     * @throws IOException If the files cannot be written or read.
+     */
+    @Test
+    public void testRecover() throws IOException {
+        File journalFile = folder.newFile("journal.bin");
+        File snapshotFile = folder.newFile("tables.snap");
+        Map<Integer, GameLogic> tables = new HashMap<>();
+
+        try (RollJournal journal = new RollJournal(journalFile.toPath(), 4096, 8)) {
+            for (int i = 0; i < 5; i++) {
+                GameLogic table = new JournaledGameLogic(new LookupDiceSource(new SplittableRandom(i)), journal, i);
+                table.setBankBalance(500);
+                tables.put(i, table);
+            }
+            playRolls(tables, 100);
+            journal.commit();
+            TableSnapshot.write(snapshotFile.toPath(), tables, journal.getLastSequence());
+            playRolls(tables, 100);
+        }
+
+        Map<Integer, GameLogic> recovered = TableSnapshot.recover(snapshotFile.toPath(), journalFile.toPath());
+        for (Map.Entry<Integer, GameLogic> entry : tables.entrySet()) {
+            assertSameState(entry.getValue(), recovered.get(entry.getKey()));
+        }
+    }
+
+    /**
+     * Plays rolls on every table, betting at the start of each round.
+     *
+     * @param theTables The tables.
+     * @param theRolls The number of rolls per table.
+     */
+    private static void playRolls(Map<Integer, GameLogic> theTables, int theRolls) {
+        for (int roll = 0; roll < theRolls; roll++) {
+            for (GameLogic table : theTables.values()) {
+                if (table.getPointGained()) {
+                    table.startNewGame();
+                    table.updateBet(10);
+                }
+                table.getGenericRoll();
+            }
+        }
+    }
+
+    /**
+     * Checks that two tables have the same state.
+     *
+     * @param theExpected The original table.
+     * @param theActual The restored table.
+     */
+    private static void assertSameState(GameLogic theExpected, GameLogic theActual) {
+        assertEquals(theExpected.getPlayerWins(), theActual.getPlayerWins());
+        assertEquals(theExpected.getHouseWins(), theActual.getHouseWins());
+        assertEquals(theExpected.getPoint(), theActual.getPoint());
+        assertEquals(theExpected.getDieOne(), theActual.getDieOne());
+        assertEquals(theExpected.getDieTwo(), theActual.getDieTwo());
+        assertEquals(theExpected.getPointGained(), theActual.getPointGained());
+        assertEquals(theExpected.getBet(), theActual.getBet());
+        assertEquals(theExpected.getBankBalance(), theActual.getBankBalance());
+    }
+}
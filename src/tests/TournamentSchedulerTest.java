@@ -0,0 +1,156 @@
+package tests;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import model.BettingStrategy;
+import model.Leaderboard;
+import model.Progression;
+import model.SessionConfig;
+import model.TournamentScheduler;
+
+/**
+ * Unit tests for Tournament Scheduler class.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public class TournamentSchedulerTest {
+
+    /**
+     * Gives every player a flat strategy.
+     *
+     * @param thePlayers The number of players.
+     * @return The strategies.
+     */
+    private static BettingStrategy[] flat(int thePlayers) {
+        BettingStrategy[] strategies = new BettingStrategy[thePlayers];
+        for (int i = 0; i < thePlayers; i++) {
+            strategies[i] = Progression.FLAT;
+        }
+        return strategies;
+    }
+
+    /**
+     * Checks that every player plays exactly the round quota and that each
+     * bank matches its wins at even money.
+     */
+    @Test
+    public void testRoundQuota() {
+        Leaderboard board = new TournamentScheduler(2).run(flat(500), new SessionConfig(10_000, 10, 0, 0, 100),
+                1L, 0);
+        assertEquals(500, board.size());
+        assertEquals(500, board.getFinished());
+        for (int rank = 0; rank < board.size(); rank++) {
+            assertEquals(100, board.getRoundsPlayed(rank));
+            assertEquals(10_000 + 10 * (2 * board.getPlayerWins(rank) - 100), board.getBankBalance(rank));
+        }
+    }
+
+    /**
+     * Checks that the players are ranked by bank, highest first, ties by player number.
+     */
+    @Test
+    public void testRanking() {
+        Leaderboard board = new TournamentScheduler(1).run(flat(1000), new SessionConfig(1000, 10, 0, 0, 50),
+                2L, 0);
+        for (int rank = 1; rank < board.size(); rank++) {
+            assertTrue(board.getBankBalance(rank - 1) >= board.getBankBalance(rank));
+            if (board.getBankBalance(rank - 1) == board.getBankBalance(rank)) {
+                assertTrue(board.getPlayer(rank - 1) < board.getPlayer(rank));
+            }
+        }
+    }
+
+    /**
+     * Checks that the same seed gives the same standings for any number of threads.
+     */
+    @Test
+    public void testSameForAnyThreads() {
+        BettingStrategy[] strategies = new BettingStrategy[300];
+        for (int i = 0; i < strategies.length; i++) {
+            strategies[i] = Progression.values()[i % Progression.values().length];
+        }
+        SessionConfig config = new SessionConfig(1000, 10, 500, 500, 200);
+        Leaderboard one = new TournamentScheduler(1).run(strategies, config, 3L, 0);
+        Leaderboard four = new TournamentScheduler(4).run(strategies, config, 3L, 0);
+        for (int rank = 0; rank < one.size(); rank++) {
+            assertEquals(one.getPlayer(rank), four.getPlayer(rank));
+            assertEquals(one.getBankBalance(rank), four.getBankBalance(rank));
+            assertEquals(one.getPlayerWins(rank), four.getPlayerWins(rank));
+            assertEquals(one.getRoundsPlayed(rank), four.getRoundsPlayed(rank));
+        }
+    }
+
+    /**
+     * Checks that a session stops once it reaches its stop-loss or stop-win.
+     */
+    @Test
+    public void testStopLimits() {
+        Leaderboard board = new TournamentScheduler(1).run(flat(200), new SessionConfig(1000, 10, 50, 50, 100_000),
+                4L, 0);
+        assertEquals(200, board.getFinished());
+        for (int rank = 0; rank < board.size(); rank++) {
+            int bank = board.getBankBalance(rank);
+            assertTrue(bank == 950 || bank == 1050);
+        }
+    }
+
+    /**
+     * Checks that checkpoints are taken while play goes on and that the time
+     * budget gives every player the same number of rounds.
+     */
+    @Test
+    public void testCheckpointsAndTimeBudget() {
+        List<Leaderboard> checkpoints = new ArrayList<>();
+        Leaderboard board = new TournamentScheduler(2, 20, checkpoints::add)
+                .run(flat(1000), new SessionConfig(1_000_000, 1, 0, 0, Integer.MAX_VALUE), 5L, 200);
+        assertFalse(checkpoints.isEmpty());
+        assertEquals(0, checkpoints.get(0).getFinished());
+        assertEquals(1000, board.getFinished());
+
+        int fewest = Integer.MAX_VALUE;
+        int most = 0;
+        for (int rank = 0; rank < board.size(); rank++) {
+            fewest = Math.min(fewest, board.getRoundsPlayed(rank));
+            most = Math.max(most, board.getRoundsPlayed(rank));
+        }
+        assertTrue(fewest > 0);
+        assertEquals(fewest, most);
+    }
+
+    /**
+     * Checks that a strategy throwing in the middle of a slice ends the
+     * tournament with its exception instead of leaving run waiting, with
+     * and without checkpoints.
+     */
+    @Test
+    public void testStrategyThrows() {
+        BettingStrategy[] strategies = flat(100);
+        strategies[37] = (theBaseBet, theLastBet, theLastWon, theBank) -> {
+            if (theLastBet > 0 && theBank % 7 == 0) {
+                throw new IllegalStateException("NO MORE BETS");
+            }
+            return theBaseBet;
+        };
+        for (TournamentScheduler scheduler : new TournamentScheduler[] {
+            new TournamentScheduler(2), new TournamentScheduler(2, 5, board -> { })}) {
+            try {
+                scheduler.run(strategies, new SessionConfig(1_000, 1, 0, 0, 100_000), 8L, 0);
+                fail();
+            } catch (IllegalStateException e) {
+                assertTrue(String.valueOf(e.getMessage()).contains("NO MORE BETS")
+                        || String.valueOf(e.getCause()).contains("NO MORE BETS"));
+            }
+        }
+    }
+
+    /**
+     * Checks that a starting bank larger than a table can hold is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testBankTooLarge() {
+        new TournamentScheduler(1).run(flat(1), new SessionConfig(1L << 32, 10, 0, 0, 10), 6L, 0);
+    }
+}
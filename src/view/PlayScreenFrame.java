@@ -1,17 +1,28 @@
 package view;
 
 import javax.swing.*;
+import metrics.GameMetrics;
+import metrics.MeteredGameLogic;
+import model.BettingStrategy;
 import model.GameLogic;
+import model.PassLineOdds;
+import model.Progression;
+import model.RandomDiceSource;
+import model.RollResult;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.awt.event.KeyEvent;
 import java.awt.event.WindowEvent;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
 
 /**
  * The PlayScreenFrame class represents the main GUI window for the game of craps.
  * It includes components for rolling dice, managing bets, displaying current roll information,
  * handling player wins, and providing options through a menu bar.
+ * A scrollable history beside the game lists the latest rolls.
 
  * The PlayScreenFrame class utilizes the GameLogic class to manage the underlying game logic.
 
@@ -21,10 +32,15 @@ import java.awt.event.WindowEvent;
  */
 
 public class PlayScreenFrame extends JFrame implements ActionListener {
-    private JMenuItem start, reset, exit;
+    private JMenuItem start, reset, autoPlay, exit;
     private JMenuItem about, rules, shortcuts;
     private final GameLogic myGameLogic;
+    private final GameMetrics myMetrics;
     private final JFrame myMainFrame = new JFrame();
+    private final JPanel myGamePanel = new JPanel(new GridLayout(2, 3, 5, 5));
+    private final RollHistoryTableModel myHistoryModel = new RollHistoryTableModel();
+    private final JTable myHistoryTable = new JTable(myHistoryModel);
+    private final JScrollPane myHistoryPane = new JScrollPane(myHistoryTable);
     private final JButton myPlayButton = new JButton("Play Again");
     private final JButton myRollDiceButton = new JButton("Roll Dice");
     private final JButton myBetButton = new JButton("BET");
@@ -38,17 +54,30 @@ public class PlayScreenFrame extends JFrame implements ActionListener {
     private final JTextField myBetAmount = new JTextField();
     private final JTextField myCurrentBet = new JTextField();
     private final JTextField myBankAmount = new JTextField();
+    private final JLabel myOddsLabel = new JLabel();
+    private final JProgressBar myAutoProgress = new JProgressBar(0, 100);
+    private AutoPlayWorker myAutoPlay;
 
     /**
      * Constructs a new PlayScreenFrame, initializing the GameLogic instance and setting up the GUI components.
+     * The frame is not shown until showFrame is called.
+     * When metrics are enabled the game and the roll button handlers report to the JMX metrics.
      */
     public PlayScreenFrame() {
-        myGameLogic = new GameLogic();
+        if (GameMetrics.isEnabled()) {
+            myMetrics = GameMetrics.getPlatformInstance();
+            myGameLogic = new MeteredGameLogic(new RandomDiceSource(new Random()), myMetrics, 1);
+        } else {
+            myMetrics = null;
+            myGameLogic = new GameLogic();
+        }
+        myGameLogic.addGameListener(myHistoryModel);
         setupGUI();
     }
 
     /**
-     * Sets up the GUI components, including the menu bar, buttons, text fields, and panels.
+     * Sets up the GUI components, including the menu bar, buttons, text fields, and panels,
+     * and lays them out without showing the frame.
      */
     private void setupGUI() {
         frameComponents();
@@ -59,6 +88,17 @@ public class PlayScreenFrame extends JFrame implements ActionListener {
         playButtonComponents();
         winsTotalComponents();
         betComponents();
+        historyComponents();
+
+        myMainFrame.addNotify();
+        myMainFrame.validate();
+    }
+
+    /**
+     * Shows the frame. It is already laid out, so showing it takes a single paint.
+     */
+    public void showFrame() {
+        myMainFrame.setVisible(true);
     }
 
     /**
@@ -75,6 +115,11 @@ public class PlayScreenFrame extends JFrame implements ActionListener {
 
         playPanel.add(myPlayButton, gridLayout);
 
+        gridLayout.gridy = 1;
+        myAutoProgress.setStringPainted(true);
+        myAutoProgress.setVisible(false);
+        playPanel.add(myAutoProgress, gridLayout);
+
         myPlayButton.setEnabled(false);
 
         myPlayButton.addActionListener(e -> {
@@ -85,11 +130,12 @@ public class PlayScreenFrame extends JFrame implements ActionListener {
             myPointField.setText("0");
             myBetAmount.setText("0");
             myCurrentBet.setText("0");
+            updateOdds(0);
             myRollDiceButton.setEnabled(true);
 
         });
 
-        myMainFrame.add(playPanel);
+        myGamePanel.add(playPanel);
     }
 
     /**
@@ -105,28 +151,98 @@ public class PlayScreenFrame extends JFrame implements ActionListener {
         rollDicePanel.add(pointLabel);
         rollDicePanel.add(myPointField);
         rollDicePanel.add(myRollDiceButton);
+        rollDicePanel.add(myOddsLabel);
+        updateOdds(0);
 
-        myRollDiceButton.addActionListener(e -> {
-            int pointValue = myGameLogic.getPoint();
+        myRollDiceButton.addActionListener(timed(e -> showRoll(myGameLogic.roll())));
 
-            myPointField.setText(String.valueOf(pointValue));
+        myRollDiceButton.setEnabled(false);
+        myPointField.setEditable(false);
 
-            myRollDiceButton.setEnabled(!myGameLogic.getPointGained());
+        myGamePanel.add(rollDicePanel);
+    }
 
-            SwingUtilities.invokeLater(() -> {
-                int playerWins = myGameLogic.getPlayerWins();
-                int houseWins = myGameLogic.getHouseWins();
+    /**
+     * Shows the result of a roll in every field it changes, in one pass on the event dispatch thread.
+     *
+     * @param theResult The state of the game right after the roll.
+     */
+    private void showRoll(RollResult theResult) {
+        setField(myDieOneField, theResult.getDieOne());
+        setField(myDieTwoField, theResult.getDieTwo());
+        setField(myTotalField, theResult.getTotal());
+        setField(myPointField, theResult.getPoint());
+        setField(myPlayerWinsField, theResult.getPlayerWins());
+        setField(myHouseWinsField, theResult.getHouseWins());
+        setField(myBankAmount, theResult.getBankBalance());
+        updateOdds(theResult.getPointGained() ? 0 : theResult.getPoint());
+        myRollDiceButton.setEnabled(!theResult.getPointGained());
+        updateHistory();
+    }
 
-                myPlayerWinsField.setText(String.valueOf(playerWins));
-                myHouseWinsField.setText(String.valueOf(houseWins));
+    /**
+     * Sets up the scrollable roll history beside the game panels.
+     * Rows have a fixed height and no sorter, so the table paints only
+     * the rows in view however many rolls it holds.
+     */
+    private void historyComponents() {
+        myHistoryTable.setRowHeight(18);
+        myHistoryTable.setFillsViewportHeight(true);
+        myHistoryTable.getTableHeader().setReorderingAllowed(false);
 
-            });
-        });
+        myHistoryPane.setBorder(BorderFactory.createTitledBorder("Roll History"));
+        myHistoryPane.setPreferredSize(new Dimension(330, 0));
 
-        myRollDiceButton.setEnabled(false);
-        myPointField.setEditable(false);
+        myMainFrame.add(myHistoryPane, BorderLayout.EAST);
+    }
 
-        myMainFrame.add(rollDicePanel);
+    /**
+     * Shows the rolls made since the last update in the history, and keeps
+     * the newest roll in view if the history was scrolled to the bottom.
+     */
+    private void updateHistory() {
+        final JScrollBar scrollBar = myHistoryPane.getVerticalScrollBar();
+        final boolean atBottom = scrollBar.getValue() + scrollBar.getVisibleAmount() >= scrollBar.getMaximum();
+        myHistoryModel.update();
+        final int rows = myHistoryModel.getRowCount();
+        if (atBottom && rows > 0) {
+            myHistoryTable.scrollRectToVisible(myHistoryTable.getCellRect(rows - 1, 0, true));
+        }
+    }
+
+    /**
+     * Sets a field's text only if it changed, so an unchanged field is not revalidated.
+     *
+     * @param theField The field.
+     * @param theValue The value to show.
+     */
+    private static void setField(JTextField theField, int theValue) {
+        final String text = String.valueOf(theValue);
+        if (!text.equals(theField.getText())) {
+            theField.setText(text);
+        }
+    }
+
+    /**
+     * Wraps a listener so the time it holds the event dispatch thread is recorded,
+     * if metrics are enabled.
+     *
+     * @param theListener The listener to time.
+     * @return The timed listener, or the listener itself if metrics are disabled.
+     */
+    private ActionListener timed(ActionListener theListener) {
+        return myMetrics == null ? theListener : myMetrics.timed(theListener);
+    }
+
+    /**
+     * Shows the exact odds of winning the round from the given point.
+     *
+     * @param thePoint The current point, or 0 before the come-out roll.
+     */
+    private void updateOdds(int thePoint) {
+        myOddsLabel.setText(String.format(" Win: %.1f%%  EV: %+.1f%%",
+                PassLineOdds.getWinProbability(thePoint) * 100,
+                PassLineOdds.getExpectedValue(thePoint) * 100));
     }
 
     /**
@@ -169,7 +285,7 @@ public class PlayScreenFrame extends JFrame implements ActionListener {
         myBetButton.setEnabled(false);
         myCurrentBet.setEditable(false);
 
-        myMainFrame.add(betPanel);
+        myGamePanel.add(betPanel);
     }
 
     /**
@@ -185,10 +301,9 @@ public class PlayScreenFrame extends JFrame implements ActionListener {
                 JOptionPane.showMessageDialog(this, "Bet amount is more than Bank amount.",
                         "Uh oh!", JOptionPane.ERROR_MESSAGE);
             } else {
-                int totalBet = myGameLogic.getBet() + theAmount;
+                myGameLogic.setBankBalance(currentBankAmount);
                 myGameLogic.updateBet(theAmount);
-                myGameLogic.setBankBalance(currentBankAmount - theAmount);
-                myGameLogic.setBet(totalBet);
+                int totalBet = myGameLogic.getBet();
 
                 myBetAmount.setText(Integer.toString(totalBet));
                 myCurrentBet.setText(Integer.toString(totalBet));
@@ -232,7 +347,7 @@ public class PlayScreenFrame extends JFrame implements ActionListener {
 
         myBankAmount.setEditable(true);
 
-        myMainFrame.add(bankPanel);
+        myGamePanel.add(bankPanel);
     }
 
     /**
@@ -250,18 +365,6 @@ public class PlayScreenFrame extends JFrame implements ActionListener {
         JLabel totalLabel = new JLabel("Total: ");
         myTotalField.setMaximumSize(new Dimension(125, 25));
 
-        myRollDiceButton.addActionListener(e -> {
-            myGameLogic.getGenericRoll();
-
-            int dieOneValue = myGameLogic.getDieOne();
-            int dieTwoValue = myGameLogic.getDieTwo();
-            int totalValue = myGameLogic.getTotal();
-
-            myDieOneField.setText(String.valueOf(dieOneValue));
-            myDieTwoField.setText(String.valueOf(dieTwoValue));
-            myTotalField.setText(String.valueOf(totalValue));
-        });
-
         currentRollPanel.add(dieOneLabel);
         currentRollPanel.add(myDieOneField);
         currentRollPanel.add(dieTwoLabel);
@@ -273,7 +376,7 @@ public class PlayScreenFrame extends JFrame implements ActionListener {
         myDieTwoField.setEditable(false);
         myTotalField.setEditable(false);
 
-        myMainFrame.add(currentRollPanel);
+        myGamePanel.add(currentRollPanel);
     }
 
     /**
@@ -290,21 +393,6 @@ public class PlayScreenFrame extends JFrame implements ActionListener {
         JLabel houseWinsLabel = new JLabel("House Win Total: ");
         myHouseWinsField.setMaximumSize(new Dimension(125, 25));
 
-        myRollDiceButton.addActionListener(e -> {
-            int playerWins = myGameLogic.getPlayerWins();
-            int houseWins = myGameLogic.getHouseWins();
-
-            myPlayerWinsField.setText(String.valueOf(playerWins));
-            myHouseWinsField.setText(String.valueOf(houseWins));
-
-            SwingUtilities.invokeLater(() -> {
-                int bankUpdate = myGameLogic.getBankBalance();
-
-                myBankAmount.setText(Integer.toString(bankUpdate));
-
-            });
-        });
-
         winsTotalPanel.add(playerWinsLabel);
         winsTotalPanel.add(myPlayerWinsField);
         winsTotalPanel.add(houseWinsLabel);
@@ -313,7 +401,7 @@ public class PlayScreenFrame extends JFrame implements ActionListener {
         myPlayerWinsField.setEditable(false);
         myHouseWinsField.setEditable(false);
 
-        myMainFrame.add(winsTotalPanel);
+        myGamePanel.add(winsTotalPanel);
     }
 
     /**
@@ -321,6 +409,7 @@ public class PlayScreenFrame extends JFrame implements ActionListener {
      */
     private void resetFrame() {
         myPointField.setText("");
+        updateOdds(0);
         myBetAmount.setText("");
         myBankAmount.setText("");
         myDieOneField.setText("");
@@ -329,23 +418,82 @@ public class PlayScreenFrame extends JFrame implements ActionListener {
         myPlayerWinsField.setText("0");
         myHouseWinsField.setText("0");
         myCurrentBet.setText("");
+        myHistoryModel.clear();
         myBetButton.setEnabled(false);
         myRollDiceButton.setEnabled(false);
         myPlayButton.setEnabled(false);
+        autoPlay.setEnabled(false);
+    }
+
+    /**
+     * Asks for a round count, a base bet and a bet rule, then plays the rounds in the background.
+     * The bank is taken from the bank field, the same way betInput does.
+     */
+    private void startAutoPlay() {
+        final JTextField roundsField = new JTextField("1000");
+        final JTextField baseBetField = new JTextField(myBetAmount.getText().isEmpty() ? "10" : myBetAmount.getText());
+        final JComboBox<Progression> ruleBox = new JComboBox<>(Progression.values());
+        final JPanel autoPanel = new JPanel(new GridLayout(3, 2, 5, 5));
+        autoPanel.add(new JLabel("Rounds:"));
+        autoPanel.add(roundsField);
+        autoPanel.add(new JLabel("Base bet:"));
+        autoPanel.add(baseBetField);
+        autoPanel.add(new JLabel("Bet rule:"));
+        autoPanel.add(ruleBox);
+
+        int result = JOptionPane.showConfirmDialog(this, autoPanel, "Auto Play", JOptionPane.OK_CANCEL_OPTION);
+        if (result != JOptionPane.OK_OPTION) {
+            return;
+        }
+        try {
+            int rounds = Integer.parseInt(roundsField.getText());
+            int baseBet = Integer.parseInt(baseBetField.getText());
+            int bankAmount = Integer.parseInt(myBankAmount.getText());
+            if (rounds <= 0 || baseBet <= 0) {
+                throw new NumberFormatException("ONLY POSITIVE NUMBERS");
+            }
+            myGameLogic.setBankBalance(bankAmount);
+
+            myAutoPlay = new AutoPlayWorker(rounds, baseBet, (Progression) ruleBox.getSelectedItem());
+            setAutoPlaying(true);
+            myAutoPlay.execute();
+
+        } catch (NumberFormatException exception) {
+            JOptionPane.showMessageDialog(this, "Input valid bank, round and bet amounts.",
+                    "Uh oh!!", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
+    /**
+     * Switches the controls between auto play and normal play.
+     * While auto play runs only the Auto Play item, now labelled Stop, can be used,
+     * because the game belongs to the background thread.
+     *
+     * @param thePlaying true when auto play starts, false when it ends.
+     */
+    private void setAutoPlaying(boolean thePlaying) {
+        autoPlay.setText(thePlaying ? "Stop Auto Play" : "Auto Play");
+        reset.setEnabled(!thePlaying);
+        myPlayButton.setEnabled(!thePlaying);
+        myBetButton.setEnabled(!thePlaying);
+        mySetBankButton.setEnabled(!thePlaying);
+        myRollDiceButton.setEnabled(!thePlaying && !myGameLogic.getPointGained());
+        myAutoProgress.setValue(0);
+        myAutoProgress.setVisible(thePlaying);
     }
 
     /**
      * Sets up the main frame properties, such as size, location, title, and default close operation.
      */
     private void frameComponents() {
-        myMainFrame.setLayout(new GridLayout(2,3,5,5));
-        myMainFrame.setSize(800,550);
+        myMainFrame.setLayout(new BorderLayout());
+        myMainFrame.add(myGamePanel, BorderLayout.CENTER);
+        myMainFrame.setSize(1130,550);
         myMainFrame.setLocation(400,200);
         myMainFrame.setResizable(false);
         myMainFrame.setBackground(Color.LIGHT_GRAY);
         myMainFrame.setTitle("The Game of Craps");
         myMainFrame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
-        myMainFrame.setVisible(true);
     }
 
     /**
@@ -361,6 +509,7 @@ public class PlayScreenFrame extends JFrame implements ActionListener {
 
         start = new JMenuItem("Start");
         reset = new JMenuItem("Reset");
+        autoPlay = new JMenuItem("Auto Play");
         exit = new JMenuItem("Exit");
 
         about = new JMenuItem("About");
@@ -374,6 +523,7 @@ public class PlayScreenFrame extends JFrame implements ActionListener {
 
         gameMenu.add(start);
         gameMenu.add(reset);
+        gameMenu.add(autoPlay);
         gameMenu.add(exit);
 
         helpMenu.add(about);
@@ -382,6 +532,8 @@ public class PlayScreenFrame extends JFrame implements ActionListener {
 
         start.addActionListener(this);
         reset.addActionListener(this);
+        autoPlay.addActionListener(this);
+        autoPlay.setEnabled(false);
         exit.addActionListener(this);
         about.addActionListener(this);
         rules.addActionListener(this);
@@ -389,12 +541,12 @@ public class PlayScreenFrame extends JFrame implements ActionListener {
 
         start.setAccelerator(KeyStroke.getKeyStroke(KeyEvent.VK_S, KeyEvent.CTRL_DOWN_MASK));
         reset.setAccelerator(KeyStroke.getKeyStroke(KeyEvent.VK_R,KeyEvent.CTRL_DOWN_MASK));
+        autoPlay.setAccelerator(KeyStroke.getKeyStroke(KeyEvent.VK_O,KeyEvent.CTRL_DOWN_MASK));
         exit.setAccelerator(KeyStroke.getKeyStroke(KeyEvent.VK_E,KeyEvent.CTRL_DOWN_MASK));
         about.setAccelerator(KeyStroke.getKeyStroke(KeyEvent.VK_A,KeyEvent.CTRL_DOWN_MASK));
         rules.setAccelerator(KeyStroke.getKeyStroke(KeyEvent.VK_U,KeyEvent.CTRL_DOWN_MASK));
         shortcuts.setAccelerator(KeyStroke.getKeyStroke(KeyEvent.VK_L,KeyEvent.CTRL_DOWN_MASK));
 
-        myRollDiceButton.addActionListener(this);
         myBetButton.addActionListener(this);
         myPlayButton.addActionListener(this);
         mySetBankButton.addActionListener(this);
@@ -458,8 +610,16 @@ public class PlayScreenFrame extends JFrame implements ActionListener {
             myPlayButton.setEnabled(true);
             myRollDiceButton.setEnabled(true);
             myBetButton.setEnabled(true);
+            autoPlay.setEnabled(true);
             start.setEnabled(false);
         }
+        if (e.getSource() == autoPlay) {
+            if (myAutoPlay == null) {
+                startAutoPlay();
+            } else {
+                myAutoPlay.stop();
+            }
+        }
         if (e.getSource() == reset) {
             myGameLogic.resetGame();
             resetFrame();
@@ -497,6 +657,7 @@ public class PlayScreenFrame extends JFrame implements ActionListener {
                             \s
                             Start (ctrl + S)
                             Reset (ctrl + R)
+                            Auto Play (ctrl + O)
                             Exit (ctrl + E)
                             About (ctrl + A)
                             Rules (ctrl + U)
@@ -505,4 +666,116 @@ public class PlayScreenFrame extends JFrame implements ActionListener {
                     "Shortcuts", JOptionPane.INFORMATION_MESSAGE);
         }
     }
+
+    /**
+     * Plays rounds against the game on a background thread.
+     * A round already in progress is finished first with its current bet.
+     * Every later round starts with startNewGame and a bet from the bet rule,
+     * capped at the bank, and auto play ends early if the bank runs out.
+     * The latest state is published at most PUBLISH_RATE times a second,
+     * and the view shows only the newest state of each batch.
+     */
+    private final class AutoPlayWorker extends SwingWorker<RollResult, RollResult> {
+        private static final int PUBLISH_RATE = 30;
+        private static final long PUBLISH_NANOS = 1_000_000_000L / PUBLISH_RATE;
+        private static final int CLOCK_CHECK_ROUNDS = 64;
+
+        private final int myRounds;
+        private final int myBaseBet;
+        private final BettingStrategy myStrategy;
+        private volatile int myRoundsPlayed;
+        private volatile boolean myStopRequested;
+        private long myElapsedNanos;
+
+        /**
+         * Constructs a new AutoPlayWorker.
+         *
+         * @param theRounds The number of rounds to play.
+         * @param theBaseBet The base bet passed to the bet rule.
+         * @param theStrategy The bet rule.
+         */
+        AutoPlayWorker(int theRounds, int theBaseBet, BettingStrategy theStrategy) {
+            myRounds = theRounds;
+            myBaseBet = theBaseBet;
+            myStrategy = theStrategy;
+        }
+
+        /**
+         * Asks the worker to stop after the round it is playing.
+         */
+        void stop() {
+            myStopRequested = true;
+        }
+
+        @Override
+        protected RollResult doInBackground() {
+            final GameLogic game = myGameLogic;
+            final long start = System.nanoTime();
+            long lastPublish = start;
+            int lastBet = 0;
+            boolean lastWon = false;
+
+            for (int round = 0; round < myRounds && !myStopRequested; round++) {
+                if (game.getPointGained()) {
+                    game.startNewGame();
+                }
+                if (game.getPoint() == 0 && game.getBet() == 0) {
+                    final int bet = Math.min(
+                            myStrategy.nextBet(myBaseBet, lastBet, lastWon, game.getBankBalance()),
+                            game.getBankBalance());
+                    if (bet <= 0) {
+                        break;
+                    }
+                    game.updateBet(bet);
+                }
+
+                final int bet = game.getBet();
+                final int playerWins = game.getPlayerWins();
+                do {
+                    game.getGenericRoll();
+                } while (!game.getPointGained());
+                lastBet = bet;
+                lastWon = game.getPlayerWins() != playerWins;
+                myRoundsPlayed = round + 1;
+
+                if (round % CLOCK_CHECK_ROUNDS == 0) {
+                    final long now = System.nanoTime();
+                    if (now - lastPublish >= PUBLISH_NANOS) {
+                        publish(game.getSnapshot());
+                        lastPublish = now;
+                    }
+                }
+            }
+            myElapsedNanos = System.nanoTime() - start;
+            return game.getSnapshot();
+        }
+
+        @Override
+        protected void process(List<RollResult> theChunks) {
+            showRoll(theChunks.get(theChunks.size() - 1));
+            myAutoProgress.setValue((int) (myRoundsPlayed * 100L / myRounds));
+        }
+
+        @Override
+        protected void done() {
+            myAutoPlay = null;
+            try {
+                RollResult result = get();
+                showRoll(result);
+                myCurrentBet.setText(Integer.toString(result.getBet()));
+                setAutoPlaying(false);
+
+                JOptionPane.showMessageDialog(PlayScreenFrame.this, String.format(
+                        "Played %d rounds (%.0f rounds/sec).%nPlayer Win Total: %d%nHouse Win Total: %d%nBank: $%d",
+                        myRoundsPlayed, myRoundsPlayed * 1e9 / Math.max(1, myElapsedNanos),
+                        result.getPlayerWins(), result.getHouseWins(), result.getBankBalance()),
+                        "Auto Play", JOptionPane.INFORMATION_MESSAGE);
+
+            } catch (InterruptedException | ExecutionException exception) {
+                setAutoPlaying(false);
+                JOptionPane.showMessageDialog(PlayScreenFrame.this, "Auto play stopped: " + exception.getMessage(),
+                        "Uh oh!!", JOptionPane.ERROR_MESSAGE);
+            }
+        }
+    }
 }
@@ -0,0 +1,195 @@
+package view;
+
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.swing.table.AbstractTableModel;
+import model.Dice;
+import model.GameEvent;
+import model.GameListener;
+import model.RollResult;
+
+/**
+ * A table model showing the latest rolls of a game, newest last.
+ * Every roll is packed into one int of a fixed ring, so the model holds
+ * no object per row and its heap use does not grow with the number of
+ * rolls; once the ring is full the oldest rows drop off the top.
+
+ * The model listens to the game on whatever thread plays it, and that
+ * thread only writes the ring and publishes the roll count. The table
+ * learns about new rows when update is called on the event dispatch
+ * thread, which covers every roll since the last update with at most one
+ * rows-deleted and one rows-inserted event, so auto play can roll
+ * millions of times without queueing an event per roll.
+
+ * Before overwriting a slot the game thread announces the roll it is
+ * starting, and a cell read on the event dispatch thread checks that
+ * announcement after reading its slot, the same way RollHistory re-checks
+ * its sequence. A row whose slot may already hold a newer roll is shown
+ * blank instead of with the wrong dice.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public class RollHistoryTableModel extends AbstractTableModel implements GameListener {
+    /**
+     * The number of rolls kept when no capacity is given.
+     */
+    public static final int DEFAULT_CAPACITY = 1 << 20;
+
+    private static final String[] COLUMNS = {"Roll", "Die One", "Die Two", "Total", "Point", "Result"};
+    private static final int POINT_SHIFT = 6;
+    private static final int WON = 1 << 10;
+    private static final int LOST = 1 << 11;
+
+    private final int[] myRolls;
+    private final AtomicLong myRollCount;
+    private final AtomicLong myStartedCount;
+    private int myPlayerWins;
+    private int myHouseWins;
+    private int myNextSlot;
+    private long myShownCount;
+
+    /**
+     * Constructs a new RollHistoryTableModel that keeps DEFAULT_CAPACITY rolls.
+     */
+    public RollHistoryTableModel() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a new RollHistoryTableModel.
+     *
+     * @param theCapacity The number of rolls kept.
+     * @throws IllegalArgumentException If the capacity is not positive.
+     */
+    public RollHistoryTableModel(int theCapacity) {
+        if (theCapacity <= 0) {
+            throw new IllegalArgumentException("ONLY POSITIVE NUMBERS");
+        }
+        myRolls = new int[theCapacity];
+        myRollCount = new AtomicLong();
+        myStartedCount = new AtomicLong();
+    }
+
+    /**
+     * Records a roll into the ring. Called on the thread that plays the game.
+     *
+     * @param theEvent The kind of change.
+     * @param theState The state of the game after the change.
+     */
+    @Override
+    public void gameChanged(GameEvent theEvent, RollResult theState) {
+        if (theEvent == GameEvent.ROLLED) {
+            int packed = Dice.outcome(theState.getDieOne(), theState.getDieTwo())
+                    | theState.getPoint() << POINT_SHIFT;
+            if (theState.getPlayerWins() != myPlayerWins) {
+                packed |= WON;
+            } else if (theState.getHouseWins() != myHouseWins) {
+                packed |= LOST;
+            }
+            final long count = myRollCount.get() + 1;
+            myStartedCount.lazySet(count);
+            VarHandle.storeStoreFence();
+            myRolls[myNextSlot] = packed;
+            myNextSlot = myNextSlot + 1 == myRolls.length ? 0 : myNextSlot + 1;
+            myRollCount.lazySet(count);
+        }
+        myPlayerWins = theState.getPlayerWins();
+        myHouseWins = theState.getHouseWins();
+    }
+
+    /**
+     * Shows every roll recorded since the last update. Called on the event dispatch thread.
+     */
+    public void update() {
+        final long count = myRollCount.get();
+        final long added = count - myShownCount;
+        if (added == 0) {
+            return;
+        }
+        final int oldRows = getRowCount();
+        myShownCount = count;
+        final int newRows = getRowCount();
+        final long removed = added - (newRows - oldRows);
+
+        if (removed > 0 && removed >= oldRows) {
+            fireTableDataChanged();
+            return;
+        }
+        if (removed > 0) {
+            fireTableRowsDeleted(0, (int) removed - 1);
+        }
+        fireTableRowsInserted(newRows - (int) added, newRows - 1);
+    }
+
+    /**
+     * Removes every roll. Called on the event dispatch thread while no one is rolling.
+     */
+    public void clear() {
+        myRollCount.set(0);
+        myStartedCount.set(0);
+        myNextSlot = 0;
+        myShownCount = 0;
+        fireTableDataChanged();
+    }
+
+    /**
+     * Gets the number of rolls ever shown, including those that dropped off the top.
+     *
+     * @return The number of rolls.
+     */
+    public long getRollCount() {
+        return myShownCount;
+    }
+
+    @Override
+    public int getRowCount() {
+        return (int) Math.min(myShownCount, myRolls.length);
+    }
+
+    @Override
+    public int getColumnCount() {
+        return COLUMNS.length;
+    }
+
+    @Override
+    public String getColumnName(int theColumn) {
+        return COLUMNS[theColumn];
+    }
+
+    @Override
+    public Class<?> getColumnClass(int theColumn) {
+        if (theColumn == 0) {
+            return Long.class;
+        }
+        return theColumn == COLUMNS.length - 1 ? String.class : Integer.class;
+    }
+
+    /**
+     * Unpacks one cell. Only the rows JTable paints are ever asked for.
+     * A row the game has already overwritten in the ring is shown blank
+     * until the next update moves it off the top.
+     *
+     * @param theRow The row, 0 for the oldest roll kept.
+     * @param theColumn The column.
+     * @return The value of the cell.
+     */
+    @Override
+    public Object getValueAt(int theRow, int theColumn) {
+        final long roll = myShownCount - getRowCount() + theRow;
+        final int packed = myRolls[(int) (roll % myRolls.length)];
+        VarHandle.loadLoadFence();
+        if (roll < myStartedCount.get() - myRolls.length) {
+            return null;
+        }
+        final int outcome = packed & ((1 << POINT_SHIFT) - 1);
+        return switch (theColumn) {
+            case 0 -> roll + 1;
+            case 1 -> Dice.dieOne(outcome);
+            case 2 -> Dice.dieTwo(outcome);
+            case 3 -> Dice.total(outcome);
+            case 4 -> (packed >>> POINT_SHIFT) & 0xF;
+            default -> (packed & WON) != 0 ? "Won" : (packed & LOST) != 0 ? "Lost" : "";
+        };
+    }
+}
@@ -1,30 +1,56 @@
 package view;
 
+import javax.imageio.ImageIO;
 import javax.swing.*;
+import metrics.GameMetrics;
+import model.PassLineOdds;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
+import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.util.concurrent.ExecutionException;
 
 /**
  * The class represents the initial frame of the application,
  * allowing users to start the game or exit the application.
 
  * The StartUpFrame serves as the entry point for the user to initiate the game.
+ * It is shown as soon as its buttons are laid out. The dice image is
+ * loaded on a background thread, and the PlayScreenFrame is built while
+ * this frame is showing, so the Play! button only has to show it.
  *
  * @author cynlopez
  * @version Fall 2023
  */
 public class StartUpFrame extends JPanel implements ActionListener {
+    private static final String IMAGE = "images/dice_transparent_bg.png";
+
     private final JButton myStartButton;
     private final JButton myExitButton;
     private final JFrame myMainFrame = new JFrame();
+    private final JLabel myImageLabel = new JLabel();
+    private final StartupTimer myTimer;
+    private PlayScreenFrame myPlayScreen;
 
     /**
      * Constructs a new StartUpFrame, initializing the "Play!" and "Exit" buttons,
      * and setting up the GUI components.
      */
     public StartUpFrame() {
+        this(new StartupTimer());
+    }
+
+    /**
+     * Constructs a new StartUpFrame that reports when it first appears.
+     *
+     * @param theTimer The timer started in main.
+     */
+    public StartUpFrame(StartupTimer theTimer) {
+        myTimer = theTimer;
         myExitButton = new JButton("Exit");
         myStartButton = new JButton("Play!");
 
@@ -35,12 +61,23 @@ public class StartUpFrame extends JPanel implements ActionListener {
     }
 
     /**
-     * Sets up the GUI components, including layout and frame settings.
+     * Sets up the GUI components, including layout and frame settings,
+     * then shows the frame and starts loading in the background.
      */
 
     private void setupGUI() {
         layoutComponents();
         frameComponents();
+
+        myMainFrame.addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowOpened(WindowEvent e) {
+                myTimer.firstFrameShown();
+            }
+        });
+        myMainFrame.setVisible(true);
+
+        new Preloader().execute();
     }
 
     /**
@@ -52,12 +89,8 @@ public class StartUpFrame extends JPanel implements ActionListener {
         myMainFrame.setResizable(false);
         myMainFrame.setTitle("The Game of Craps");
         myMainFrame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
-        myMainFrame.setVisible(true);
-
-        ImageIcon imageIcon = new ImageIcon("images//dice_transparent_bg.png");
-        JLabel imageLabel = new JLabel(imageIcon);
 
-        myMainFrame.add(imageLabel, BorderLayout.CENTER);
+        myMainFrame.add(myImageLabel, BorderLayout.CENTER);
     }
 
     /**
@@ -80,7 +113,10 @@ public class StartUpFrame extends JPanel implements ActionListener {
     @Override
     public void actionPerformed(ActionEvent e) {
         if (e.getSource() == myStartButton) {
-            new PlayScreenFrame();
+            if (myPlayScreen == null) {
+                myPlayScreen = new PlayScreenFrame();
+            }
+            myPlayScreen.showFrame();
             myMainFrame.dispose();
 
         } else if (e.getSource() == myExitButton) {
@@ -91,4 +127,37 @@ public class StartUpFrame extends JPanel implements ActionListener {
             }
         }
     }
+
+    /**
+     * Loads the dice image and the classes the play screen needs on a background thread,
+     * then shows the image and builds the play screen on the event dispatch thread.
+     */
+    private final class Preloader extends SwingWorker<Icon, Void> {
+
+        @Override
+        protected Icon doInBackground() throws IOException {
+            PassLineOdds.getWinProbability(0);
+            if (GameMetrics.isEnabled()) {
+                GameMetrics.getPlatformInstance();
+            }
+
+            URL image = StartUpFrame.class.getResource("/" + IMAGE);
+            if (image == null) {
+                image = new File(IMAGE).toURI().toURL();
+            }
+            return new ImageIcon(ImageIO.read(image));
+        }
+
+        @Override
+        protected void done() {
+            try {
+                myImageLabel.setIcon(get());
+            } catch (InterruptedException | ExecutionException exception) {
+                // The frame works without the image.
+            }
+            if (myPlayScreen == null && myMainFrame.isDisplayable()) {
+                myPlayScreen = new PlayScreenFrame();
+            }
+        }
+    }
 }
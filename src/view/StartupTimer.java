@@ -0,0 +1,58 @@
+package view;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Measures how long the application takes to show its first frame.
+ * The time is counted from JVM start when the platform reports it, and
+ * from the creation of the timer otherwise. It is printed once, as a
+ * line that can be tracked from run to run.
+ *
+ * @author cynlopez
+ * @version Fall 2023
+ */
+public final class StartupTimer {
+    /**
+     * The goal for the first frame to appear, in milliseconds from JVM start.
+     */
+    public static final long TARGET_MILLIS = 300;
+
+    private final long myCreatedNanos;
+    private final long myJvmMillis;
+    private long myFirstFrameMillis;
+
+    /**
+     * Constructs a new StartupTimer. Create it first thing in main.
+     */
+    public StartupTimer() {
+        myCreatedNanos = System.nanoTime();
+        myJvmMillis = ProcessHandle.current().info().startInstant()
+                .map(start -> Duration.between(start, Instant.now()).toMillis())
+                .orElse(0L);
+        myFirstFrameMillis = -1;
+    }
+
+    /**
+     * Records that the first frame is showing and prints the startup time.
+     * Only the first call counts.
+     */
+    void firstFrameShown() {
+        if (myFirstFrameMillis >= 0) {
+            return;
+        }
+        final long sinceMain = (System.nanoTime() - myCreatedNanos) / 1_000_000;
+        myFirstFrameMillis = myJvmMillis + sinceMain;
+        System.out.printf("startup: first frame after %d ms (%d ms in main, target %d ms)%n",
+                myFirstFrameMillis, sinceMain, TARGET_MILLIS);
+    }
+
+    /**
+     * Gets the time from JVM start until the first frame was showing.
+     *
+     * @return The startup time in milliseconds, or -1 if no frame has been shown yet.
+     */
+    public long getFirstFrameMillis() {
+        return myFirstFrameMillis;
+    }
+}